@@ -0,0 +1,21 @@
+package org.litesoft.fields.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks (the standard JMH command line options apply) with the allocation (gc) profiler always added.
+ */
+public class BenchmarkRunner {
+    public static void main( String[] args )
+            throws CommandLineOptionException, RunnerException {
+        new Runner( new OptionsBuilder()
+                            .parent( new CommandLineOptions( args ) )
+                            .addProfiler( GCProfiler.class )
+                            .build() ).run();
+    }
+}
@@ -0,0 +1,80 @@
+package org.litesoft.fields.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.litesoft.fields.FieldError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The hot paths of the library (FieldAccessors, Equivalance, FieldMappers, and ToStringBuilder) over a small and a wide object shape.
+ * <p>
+ * Each fork runs a single shape, so the call sites see a single (monomorphic) shape, as they would in most services.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FieldsBenchmark {
+    @Param({"small", "wide"})
+    public String shape;
+
+    private Fixture<?> fixture;
+
+    @Setup
+    public void setup() {
+        fixture = "small".equals( shape ) ? new SmallFixture() : new WideFixture();
+    }
+
+    @Benchmark
+    public int hashCodeFrom() {
+        return fixture.hashCodeFrom();
+    }
+
+    @Benchmark
+    public boolean equalInstancesWithEqualTypes() {
+        return fixture.equalInstancesWithEqualTypes();
+    }
+
+    @Benchmark
+    public List<FieldError> validate() {
+        return fixture.validate();
+    }
+
+    @Benchmark
+    public Object populateUs() {
+        return fixture.populateUs();
+    }
+
+    @Benchmark
+    public int equivalanceMostlyHash() {
+        return fixture.mostlyHash();
+    }
+
+    @Benchmark
+    public Object fieldMappersMap() {
+        return fixture.map();
+    }
+
+    @Benchmark
+    public String toStringBuilderAddAll() {
+        return fixture.toStringAddAll();
+    }
+
+    @Benchmark
+    public String toStringBuilderPooled() {
+        return fixture.toStringPooled();
+    }
+}
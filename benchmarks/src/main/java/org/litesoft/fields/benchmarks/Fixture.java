@@ -0,0 +1,68 @@
+package org.litesoft.fields.benchmarks;
+
+import java.util.List;
+
+import org.litesoft.fields.Equivalance;
+import org.litesoft.fields.FieldAccessors;
+import org.litesoft.fields.FieldError;
+import org.litesoft.fields.FieldMappers;
+import org.litesoft.fields.ToStringBuilder;
+
+/**
+ * A benchmarked object shape: its FieldAccessors, a (self) copy FieldMappers, and the instances operated on.
+ */
+abstract class Fixture<T> {
+    private final FieldAccessors<T> fas;
+    private final FieldMappers<T, T> mapper;
+    private final int mostlyFromIndex;
+    private final T instance;
+    private final T equalInstance;
+    private final T target;
+
+    Fixture( Class<T> type, FieldAccessors<T> fas, int mostlyFromIndex, T instance, T equalInstance, T target ) {
+        this.fas = fas;
+        this.mostlyFromIndex = mostlyFromIndex;
+        this.instance = instance;
+        this.equalInstance = equalInstance;
+        this.target = target;
+        FieldMappers<T, T> mapper = FieldMappers.of( type, type );
+        for ( int ordinal = 0; ordinal < fas.getFieldCount(); ordinal++ ) {
+            mapper.add( fas.getAccessor( ordinal ).getName(), fas, fas ); // all the fixture fields are mutable
+        }
+        this.mapper = mapper.compile();
+    }
+
+    int hashCodeFrom() {
+        return fas.hashCodeFrom( instance );
+    }
+
+    boolean equalInstancesWithEqualTypes() {
+        return fas.equalInstancesWithEqualTypes( instance, equalInstance );
+    }
+
+    List<FieldError> validate() {
+        return fas.validate( instance );
+    }
+
+    T populateUs() {
+        fas.populateUs( target, instance );
+        return target;
+    }
+
+    int mostlyHash() {
+        return Equivalance.mostlyHash( instance, fas, mostlyFromIndex );
+    }
+
+    T map() {
+        mapper.map( target, instance );
+        return target;
+    }
+
+    String toStringAddAll() {
+        return new ToStringBuilder().addAll( instance, fas ).toString();
+    }
+
+    String toStringPooled() {
+        return ToStringBuilder.build( instance, fas );
+    }
+}
@@ -0,0 +1,69 @@
+package org.litesoft.fields.benchmarks;
+
+import org.litesoft.fields.FieldAccessors;
+
+/**
+ * A small (4 field) object, typical of a DTO or cache key.
+ */
+final class SmallFixture extends Fixture<SmallFixture.Person> {
+    SmallFixture() {
+        super( Person.class, Person.FAS, 1, new Person( "Fred", 42, "fred@bedrock.com", true ),
+               new Person( "Fred", 42, "fred@bedrock.com", true ), new Person() );
+    }
+
+    static final class Person {
+        static final FieldAccessors<Person> FAS = FieldAccessors.of( Person.class )
+                .required( "name", Person::getName, Person::setName ).withType( String.class ).addMaxLength( 64 )
+                .optionalInt( "age", Person::getAge, Person::setAge )
+                .optional( "email", Person::getEmail, Person::setEmail ).withType( String.class ).addMaxLength( 128 )
+                .optionalBoolean( "active", Person::isActive, Person::setActive )
+                .done();
+
+        private String name;
+        private int age;
+        private String email;
+        private boolean active;
+
+        Person() {
+        }
+
+        Person( String name, int age, String email, boolean active ) {
+            this.name = name;
+            this.age = age;
+            this.email = email;
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName( String name ) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge( int age ) {
+            this.age = age;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail( String email ) {
+            this.email = email;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive( boolean active ) {
+            this.active = active;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.litesoft.fields.benchmarks;
+
+import org.litesoft.fields.FieldAccessors;
+
+/**
+ * A wide (24 field) object, typical of an entity or report row.
+ */
+final class WideFixture extends Fixture<WideFixture.Row> {
+    WideFixture() {
+        super( Row.class, Row.FAS, 12, Row.populated(), Row.populated(), new Row() );
+    }
+
+    @SuppressWarnings("unused")
+    static final class Row {
+        static final FieldAccessors<Row> FAS = FieldAccessors.of( Row.class )
+                .required( "s01", ( Row r ) -> r.s01, ( r, v ) -> r.s01 = v ).withType( String.class )
+                .optional( "s02", ( Row r ) -> r.s02, ( r, v ) -> r.s02 = v ).withType( String.class )
+                .optional( "s03", ( Row r ) -> r.s03, ( r, v ) -> r.s03 = v ).withType( String.class )
+                .optional( "s04", ( Row r ) -> r.s04, ( r, v ) -> r.s04 = v ).withType( String.class )
+                .optional( "s05", ( Row r ) -> r.s05, ( r, v ) -> r.s05 = v ).withType( String.class ).addMaxLength( 32 )
+                .optional( "s06", ( Row r ) -> r.s06, ( r, v ) -> r.s06 = v ).withType( String.class ).addMaxLength( 32 )
+                .optional( "s07", ( Row r ) -> r.s07, ( r, v ) -> r.s07 = v ).withType( String.class ).addMaxLength( 32 )
+                .optional( "s08", ( Row r ) -> r.s08, ( r, v ) -> r.s08 = v ).withType( String.class ).addMaxLength( 32 )
+                .optional( "b01", ( Row r ) -> r.b01, ( r, v ) -> r.b01 = v ).withType( Integer.class )
+                .optional( "b02", ( Row r ) -> r.b02, ( r, v ) -> r.b02 = v ).withType( Integer.class )
+                .optional( "b03", ( Row r ) -> r.b03, ( r, v ) -> r.b03 = v ).withType( Long.class )
+                .optional( "b04", ( Row r ) -> r.b04, ( r, v ) -> r.b04 = v ).withType( Long.class )
+                .requiredInt( "i01", r -> r.i01, ( r, v ) -> r.i01 = v )
+                .optionalInt( "i02", r -> r.i02, ( r, v ) -> r.i02 = v )
+                .optionalInt( "i03", r -> r.i03, ( r, v ) -> r.i03 = v )
+                .optionalInt( "i04", r -> r.i04, ( r, v ) -> r.i04 = v )
+                .optionalLong( "l01", r -> r.l01, ( r, v ) -> r.l01 = v )
+                .optionalLong( "l02", r -> r.l02, ( r, v ) -> r.l02 = v )
+                .optionalDouble( "d01", r -> r.d01, ( r, v ) -> r.d01 = v )
+                .optionalDouble( "d02", r -> r.d02, ( r, v ) -> r.d02 = v )
+                .optionalBoolean( "f01", r -> r.f01, ( r, v ) -> r.f01 = v )
+                .optionalBoolean( "f02", r -> r.f02, ( r, v ) -> r.f02 = v )
+                .optional( "s09", ( Row r ) -> r.s09, ( r, v ) -> r.s09 = v ).withType( String.class )
+                .optional( "s10", ( Row r ) -> r.s10, ( r, v ) -> r.s10 = v ).withType( String.class )
+                .done();
+
+        String s01, s02, s03, s04, s05, s06, s07, s08, s09, s10;
+        Integer b01, b02;
+        Long b03, b04;
+        int i01, i02, i03, i04;
+        long l01, l02;
+        double d01, d02;
+        boolean f01, f02;
+
+        static Row populated() {
+            Row r = new Row();
+            r.s01 = "Account";
+            r.s02 = "Bedrock";
+            r.s03 = "Quarry";
+            r.s04 = "Slate Rock & Gravel";
+            r.s05 = "Fred";
+            r.s06 = "Flintstone";
+            r.s07 = "Barney";
+            r.s08 = "Rubble";
+            r.s09 = "Yabba";
+            r.s10 = "Dabba Doo";
+            r.b01 = 1;
+            r.b02 = 1000;
+            r.b03 = 10000000000L;
+            r.b04 = null;
+            r.i01 = 7;
+            r.i02 = 42;
+            r.i03 = -3;
+            r.i04 = 123456;
+            r.l01 = 1234567890123L;
+            r.l02 = -1L;
+            r.d01 = 98.6;
+            r.d02 = 0.25;
+            r.f01 = true;
+            r.f02 = false;
+            return r;
+        }
+    }
+}
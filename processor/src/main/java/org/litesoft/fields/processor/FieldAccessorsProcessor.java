@@ -0,0 +1,378 @@
+package org.litesoft.fields.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+import org.litesoft.fields.GenerateFieldAccessors;
+
+/**
+ * Generates a <code>&lt;Type&gt;Fields</code> class for each type annotated with <code>@GenerateFieldAccessors</code> (see it for the details).
+ * <p>
+ * The generated FieldAccessors access the fields directly (private fields thru their bean getter & setter) thru a single (per type)
+ * <code>Access</code> class that switches on the field's ordinal, so building it bootstraps no lambdas, and only loads the one extra class.
+ */
+@SupportedAnnotationTypes(FieldAccessorsProcessor.ANNOTATION)
+public final class FieldAccessorsProcessor extends AbstractProcessor {
+    static final String ANNOTATION = "org.litesoft.fields.GenerateFieldAccessors";
+    static final String SUFFIX = "Fields";
+
+    private enum Kind {
+        INT("Int", "int", "java.util.function.ToIntFunction<T>", "applyAsInt", "java.util.function.ObjIntConsumer<T>"),
+        LONG("Long", "long", "java.util.function.ToLongFunction<T>", "applyAsLong", "java.util.function.ObjLongConsumer<T>"),
+        DOUBLE("Double", "double", "java.util.function.ToDoubleFunction<T>", "applyAsDouble", "java.util.function.ObjDoubleConsumer<T>"),
+        BOOLEAN("Boolean", "boolean", "java.util.function.Predicate<T>", "test", "org.litesoft.fields.BooleanAccessor.ObjBooleanConsumer<T>"),
+        OBJECT("", "Object", "java.util.function.Function<T, Object>", "apply", "java.util.function.BiConsumer<T, Object>");
+
+        final String builderSuffix; // e.g. "Int" -> requiredInt / optionalInt
+        final String valueType;
+        final String getterInterface;
+        final String getterMethod;
+        final String setterInterface;
+
+        Kind( String builderSuffix, String valueType, String getterInterface, String getterMethod, String setterInterface ) {
+            this.builderSuffix = builderSuffix;
+            this.valueType = valueType;
+            this.getterInterface = getterInterface;
+            this.getterMethod = getterMethod;
+            this.setterInterface = setterInterface;
+        }
+    }
+
+    /**
+     * @param getter the field's name, or (if private) its getter call, e.g. "getName()"
+     * @param setter null if direct (field assignment), otherwise the (private) field's setter name
+     */
+    private record FieldInfo(String name, String constant, Kind kind, String erasedType, String getter, String setter, boolean readOnly,
+                             boolean required, int maxLength, String metaData) {
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process( Set<? extends TypeElement> annotations, RoundEnvironment roundEnv ) {
+        for ( Element element : roundEnv.getElementsAnnotatedWith( GenerateFieldAccessors.class ) ) {
+            if ( checkType( element ) ) {
+                TypeElement type = (TypeElement)element;
+                List<FieldInfo> fields = collectFields( type );
+                if ( fields != null ) {
+                    generate( type, fields );
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean checkType( Element element ) {
+        if ( element.getKind() != ElementKind.CLASS ) {
+            return error( element, "@GenerateFieldAccessors only supports classes" );
+        }
+        TypeElement type = (TypeElement)element;
+        if ( !type.getTypeParameters().isEmpty() ) {
+            return error( element, "@GenerateFieldAccessors does not support generic classes" );
+        }
+        for ( Element level = type; level instanceof TypeElement; level = level.getEnclosingElement() ) {
+            TypeElement levelType = (TypeElement)level;
+            if ( levelType.getModifiers().contains( Modifier.PRIVATE ) ) {
+                return error( element, "@GenerateFieldAccessors requires the class (and any enclosing classes) to not be private" );
+            }
+            if ( (levelType.getNestingKind() == NestingKind.MEMBER) && !levelType.getModifiers().contains( Modifier.STATIC )
+                 && (levelType.getKind() == ElementKind.CLASS) ) {
+                return error( element, "@GenerateFieldAccessors requires nested classes to be static" );
+            }
+            if ( (levelType.getNestingKind() == NestingKind.LOCAL) || (levelType.getNestingKind() == NestingKind.ANONYMOUS) ) {
+                return error( element, "@GenerateFieldAccessors does not support local classes" );
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return null if any field is not supported (the problems having been reported)
+     */
+    private List<FieldInfo> collectFields( TypeElement type ) {
+        List<FieldInfo> fields = new ArrayList<>();
+        Set<String> constants = new HashSet<>();
+        constants.add( "FIELD_COUNT" );
+        boolean ok = true;
+        for ( VariableElement field : ElementFilter.fieldsIn( type.getEnclosedElements() ) ) {
+            Set<Modifier> modifiers = field.getModifiers();
+            GenerateFieldAccessors.Field options = field.getAnnotation( GenerateFieldAccessors.Field.class );
+            if ( modifiers.contains( Modifier.STATIC ) || modifiers.contains( Modifier.TRANSIENT ) || ((options != null) && options.exclude()) ) {
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            Kind kind = kindOf( field.asType() );
+            if ( kind == null ) {
+                ok = error( field, "field '" + name + "' is an unsupported primitive (use int, long, double, boolean, or a boxed type)" );
+                continue;
+            }
+            String constant = toConstant( name );
+            if ( !constants.add( constant ) ) {
+                ok = error( field, "field '" + name + "' ordinal constant (" + constant + ") collides with another" );
+                continue;
+            }
+            String getter = name;
+            String setter = null;
+            boolean readOnly = modifiers.contains( Modifier.FINAL );
+            if ( modifiers.contains( Modifier.PRIVATE ) ) {
+                String property = Character.toUpperCase( name.charAt( 0 ) ) + name.substring( 1 );
+                ExecutableElement getMethod = findAccessor( type, field, "get" + property, false );
+                if ( (getMethod == null) && (kind == Kind.BOOLEAN) ) {
+                    getMethod = findAccessor( type, field, "is" + property, false );
+                }
+                if ( getMethod == null ) {
+                    String getters = "get" + property + "()" + ((kind == Kind.BOOLEAN) ? (" or is" + property + "()") : "");
+                    ok = error( field, "private field '" + name + "' has no (accessible) " + getters + " getter, add one, or exclude it" );
+                    continue;
+                }
+                getter = getMethod.getSimpleName() + "()";
+                if ( !readOnly ) {
+                    ExecutableElement setMethod = findAccessor( type, field, "set" + property, true );
+                    if ( setMethod == null ) {
+                        readOnly = true;
+                    } else {
+                        setter = setMethod.getSimpleName().toString();
+                    }
+                }
+            }
+            boolean required = (options != null) && options.required();
+            int maxLength = (options == null) ? 0 : options.maxLength();
+            if ( maxLength < 0 ) {
+                ok = error( field, "field '" + name + "' max length may not be negative" );
+                continue;
+            }
+            String metaData = (options == null) ? "" : options.metaData().trim();
+            if ( !metaData.isEmpty() && required ) {
+                metaData = "required & " + metaData; // precomputed (AccessorType.required's initial metadata + the additional metadata)
+            }
+            fields.add( new FieldInfo( name, constant, kind, erasedName( field.asType() ), getter, setter, readOnly, required, maxLength, metaData ) );
+        }
+        if ( ok && fields.isEmpty() ) {
+            ok = error( type, "@GenerateFieldAccessors found no fields" );
+        }
+        return ok ? fields : null;
+    }
+
+    private void generate( TypeElement type, List<FieldInfo> fields ) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf( type );
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String simpleName = flatName( type ) + SUFFIX;
+        String typeName = type.getQualifiedName().toString();
+
+        StringBuilder sb = new StringBuilder();
+        if ( !packageName.isEmpty() ) {
+            sb.append( "package " ).append( packageName ).append( ";\n\n" );
+        }
+        sb.append( "/**\n * Generated from <code>" ).append( typeName ).append( "</code> (see <code>@GenerateFieldAccessors</code>), do not edit.\n */\n" );
+        sb.append( "@javax.annotation.processing.Generated(\"" ).append( getClass().getName() ).append( "\")\n" );
+        sb.append( "public final class " ).append( simpleName ).append( " {\n" );
+        for ( int i = 0; i < fields.size(); i++ ) {
+            sb.append( "    public static final int " ).append( fields.get( i ).constant() ).append( " = " ).append( i ).append( ";\n" );
+        }
+        sb.append( "    public static final int FIELD_COUNT = " ).append( fields.size() ).append( ";\n\n" );
+
+        sb.append( "    /**\n     * @return a new (open) FieldAccessors of the fields, call <code>done()</code> after adding any Validators & ValueGenerators\n     */\n" );
+        sb.append( "    public static org.litesoft.fields.FieldAccessors<" ).append( typeName ).append( "> newFieldAccessors() {\n" );
+        sb.append( "        return org.litesoft.fields.FieldAccessors.of( " ).append( typeName ).append( ".class )" );
+        for ( FieldInfo field : fields ) {
+            sb.append( "\n                ." ).append( field.required() ? "required" : "optional" );
+            String access = "new Access( " + field.constant() + " )";
+            sb.append( field.kind().builderSuffix ).append( "( " ).append( literal( field.name() ) ).append( ", " ).append( access );
+            if ( !field.readOnly() ) {
+                sb.append( ", " ).append( access );
+            }
+            sb.append( " )" );
+            if ( field.kind() == Kind.OBJECT ) {
+                sb.append( ".withType( " ).append( field.erasedType() ).append( ".class )" );
+            }
+            if ( field.maxLength() > 0 ) {
+                sb.append( ".addMaxLength( " ).append( field.maxLength() ).append( " )" );
+            }
+            if ( !field.metaData().isEmpty() ) {
+                sb.append( ".withMetaData( " ).append( literal( field.metaData() ) ).append( " )" );
+            }
+        }
+        sb.append( ";\n    }\n\n" );
+
+        sb.append( "    private " ).append( simpleName ).append( "() {\n    }\n\n" );
+        appendAccess( sb, typeName, fields );
+        sb.append( "}\n" );
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : (packageName + "." + simpleName);
+        try ( Writer writer = processingEnv.getFiler().createSourceFile( qualifiedName, type ).openWriter() ) {
+            writer.write( sb.toString() );
+        }
+        catch ( IOException e ) {
+            error( type, "unable to write " + qualifiedName + ": " + e.getMessage() );
+        }
+    }
+
+    /**
+     * One class for all the fields (and all the kinds), the methods switching on the field's ordinal.
+     */
+    private void appendAccess( StringBuilder sb, String typeName, List<FieldInfo> fields ) {
+        Set<String> interfaces = new LinkedHashSet<>();
+        for ( FieldInfo field : fields ) {
+            interfaces.add( field.kind().getterInterface );
+            if ( !field.readOnly() ) {
+                interfaces.add( field.kind().setterInterface );
+            }
+        }
+        sb.append( "    @SuppressWarnings(\"unchecked\")\n" );
+        sb.append( "    private static final class Access implements " )
+                .append( String.join( ", ", interfaces ).replace( "<T", "<" + typeName ) ).append( " {\n" );
+        sb.append( "        private final int ordinal;\n\n" );
+        sb.append( "        private Access( int ordinal ) {\n            this.ordinal = ordinal;\n        }\n" );
+        for ( Kind kind : Kind.values() ) {
+            List<FieldInfo> getters = new ArrayList<>();
+            List<FieldInfo> setters = new ArrayList<>();
+            for ( FieldInfo field : fields ) {
+                if ( field.kind() == kind ) {
+                    getters.add( field );
+                }
+                if ( !field.readOnly() && (field.kind() == kind) ) {
+                    setters.add( field );
+                }
+            }
+            if ( !getters.isEmpty() ) {
+                sb.append( "\n        @Override\n        public " ).append( kind.valueType ).append( " " ).append( kind.getterMethod )
+                        .append( "( " ).append( typeName ).append( " instance ) {\n" );
+                sb.append( "            return switch ( ordinal ) {\n" );
+                for ( FieldInfo field : getters ) {
+                    sb.append( "                case " ).append( field.constant() ).append( " -> instance." ).append( field.getter() ).append( ";\n" );
+                }
+                sb.append( "                default -> throw new Error( \"unexpected " ).append( kind.valueType ).append( " getter ordinal\" );\n" );
+                sb.append( "            };\n        }\n" );
+            }
+            if ( !setters.isEmpty() ) {
+                sb.append( "\n        @Override\n        public void accept( " ).append( typeName ).append( " instance, " ).append( kind.valueType )
+                        .append( " value ) {\n" );
+                sb.append( "            switch ( ordinal ) {\n" );
+                for ( FieldInfo field : setters ) {
+                    String value = (kind == Kind.OBJECT) ? ("(" + field.erasedType() + ")value") : "value";
+                    sb.append( "                case " ).append( field.constant() ).append( " -> instance." );
+                    if ( field.setter() == null ) {
+                        sb.append( field.name() ).append( " = " ).append( value ).append( ";\n" );
+                    } else {
+                        sb.append( field.setter() ).append( "( " ).append( value ).append( " );\n" );
+                    }
+                }
+                sb.append( "                default -> throw new Error( \"unexpected " ).append( kind.valueType ).append( " setter ordinal\" );\n" );
+                sb.append( "            }\n        }\n" );
+            }
+        }
+        sb.append( "    }\n" );
+    }
+
+    /**
+     * @return the (non-static) bean getter (no parameters, returning the field's type) or setter (one parameter of the field's type),
+     * that the generated (same package) class can call, or null if none
+     */
+    private ExecutableElement findAccessor( TypeElement type, VariableElement field, String methodName, boolean setter ) {
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+        PackageElement pkg = elements.getPackageOf( type );
+        for ( ExecutableElement method : ElementFilter.methodsIn( elements.getAllMembers( type ) ) ) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if ( !method.getSimpleName().contentEquals( methodName ) || modifiers.contains( Modifier.STATIC ) || modifiers.contains( Modifier.PRIVATE )
+                 || (!modifiers.contains( Modifier.PUBLIC ) && !pkg.equals( elements.getPackageOf( method ) )) ) {
+                continue;
+            }
+            List<? extends VariableElement> parameters = method.getParameters();
+            if ( setter ? ((parameters.size() == 1) && types.isSameType( parameters.get( 0 ).asType(), field.asType() )) :
+                 (parameters.isEmpty() && types.isSameType( method.getReturnType(), field.asType() )) ) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the erased type's source name, without any (TYPE_USE) annotations, as they are not allowed in class literals (and not wanted in casts)
+     */
+    private String erasedName( TypeMirror type ) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror erased = types.erasure( type );
+        return switch ( erased.getKind() ) {
+            case ARRAY -> erasedName( ((ArrayType)erased).getComponentType() ) + "[]";
+            case DECLARED -> ((TypeElement)types.asElement( erased )).getQualifiedName().toString();
+            default -> erased.getKind().isPrimitive() ? types.getPrimitiveType( erased.getKind() ).toString() : erased.toString();
+        };
+    }
+
+    private boolean error( Element element, String message ) {
+        processingEnv.getMessager().printMessage( Diagnostic.Kind.ERROR, message, element );
+        return false;
+    }
+
+    private String literal( String value ) {
+        return processingEnv.getElementUtils().getConstantExpression( value );
+    }
+
+    /**
+     * @return null if an unsupported primitive
+     */
+    private static Kind kindOf( TypeMirror type ) {
+        return switch ( type.getKind() ) {
+            case INT -> Kind.INT;
+            case LONG -> Kind.LONG;
+            case DOUBLE -> Kind.DOUBLE;
+            case BOOLEAN -> Kind.BOOLEAN;
+            case BYTE, SHORT, CHAR, FLOAT -> null;
+            default -> Kind.OBJECT;
+        };
+    }
+
+    /**
+     * @return the simple names of the type and its enclosing types, joined with '_'
+     */
+    private static String flatName( TypeElement type ) {
+        String name = type.getSimpleName().toString();
+        Element enclosing = type.getEnclosingElement();
+        return (enclosing instanceof TypeElement) ? (flatName( (TypeElement)enclosing ) + "_" + name) : name;
+    }
+
+    /**
+     * camelCase to UPPER_SNAKE, e.g. "educationLevel" to "EDUCATION_LEVEL" & "URLText" to "URL_TEXT"
+     */
+    static String toConstant( String name ) {
+        StringBuilder sb = new StringBuilder( name.length() + 4 );
+        for ( int i = 0; i < name.length(); i++ ) {
+            char c = name.charAt( i );
+            if ( Character.isUpperCase( c ) && (i > 0) && (name.charAt( i - 1 ) != '_') ) {
+                boolean acronymEnd = ((i + 1) < name.length()) && Character.isLowerCase( name.charAt( i + 1 ) ); // e.g. the 'T' of "URLText"
+                if ( !Character.isUpperCase( name.charAt( i - 1 ) ) || acronymEnd ) {
+                    sb.append( '_' );
+                }
+            }
+            sb.append( Character.toUpperCase( c ) );
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,231 @@
+package org.litesoft.fields.processor;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.litesoft.fields.BooleanAccessor;
+import org.litesoft.fields.FieldAccessors;
+import org.litesoft.fields.FieldError;
+import org.litesoft.fields.LongAccessor;
+import org.litesoft.utils.Cast;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldAccessorsProcessorTest {
+    private static final String PERSON = """
+            package sample;
+
+            import java.lang.annotation.ElementType;
+            import java.lang.annotation.Target;
+            import java.util.List;
+
+            import org.litesoft.fields.GenerateFieldAccessors;
+
+            @GenerateFieldAccessors
+            public class Person {
+                @GenerateFieldAccessors.Field(required = true, maxLength = 10, metaData = "key")
+                String name;
+                int age;
+                @GenerateFieldAccessors.Field(required = true)
+                long idNumber;
+                double ratio;
+                boolean active;
+                final String code = "C";
+                List<String> tags;
+                Integer score;
+                transient String cache;
+                static int counter;
+                @GenerateFieldAccessors.Field(exclude = true)
+                private String ignored;
+                @Tag String alias;
+                List<@Tag String> labels;
+                private String nickname;
+                private boolean member;
+                private long visits;
+
+                public String getNickname() {
+                    return nickname;
+                }
+
+                public void setNickname( String nickname ) {
+                    this.nickname = nickname;
+                }
+
+                boolean isMember() {
+                    return member;
+                }
+
+                public long getVisits() {
+                    return visits;
+                }
+
+                public void recordVisit() {
+                    visits++;
+                }
+
+                @Target(ElementType.TYPE_USE)
+                @interface Tag {
+                }
+
+                @GenerateFieldAccessors
+                public static class Address {
+                    String city;
+                }
+            }
+            """;
+
+    @Test
+    void test_generated()
+            throws Exception {
+        Path dir = Files.createTempDirectory( "processor" );
+        try {
+            DiagnosticCollector<JavaFileObject> diagnostics = compile( dir, PERSON );
+            assertTrue( diagnostics.getDiagnostics().isEmpty(), diagnostics.getDiagnostics().toString() );
+            assertTrue( Files.exists( dir.resolve( "gen/sample/PersonFields.java" ) ) );
+            assertTrue( Files.exists( dir.resolve( "gen/sample/Person_AddressFields.java" ) ) );
+
+            try ( URLClassLoader loader = new URLClassLoader( new URL[]{dir.resolve( "out" ).toUri().toURL()}, getClass().getClassLoader() ) ) {
+                Class<?> personType = loader.loadClass( "sample.Person" );
+                Class<?> fieldsType = loader.loadClass( "sample.PersonFields" );
+                assertEquals( 13, fieldsType.getField( "FIELD_COUNT" ).getInt( null ) );
+                assertEquals( 2, fieldsType.getField( "ID_NUMBER" ).getInt( null ) );
+
+                Method factory = fieldsType.getMethod( "newFieldAccessors" );
+                FieldAccessors<Object> fas = Cast.it( factory.invoke( null ) );
+                fas.done();
+                assertEquals( 13, fas.getFieldCount() );
+                assertEquals( fieldsType.getField( "RATIO" ).getInt( null ), fas.getOrdinal( "ratio" ) );
+                assertEquals( "required & key", fas.getAccessor( "name" ).getMetaData() );
+                assertEquals( Integer.valueOf( 10 ), fas.getAccessor( "name" ).getMaxLength() );
+                assertEquals( "required", fas.getAccessor( "idNumber" ).getMetaData() );
+                assertFalse( fas.getAccessor( "code" ).isMutable() );
+                assertNull( fas.getAccessor( "cache" ) );
+                assertNull( fas.getAccessor( "ignored" ) );
+                assertEquals( String.class, fas.getAccessor( "alias" ).getType() ); // TYPE_USE annotations dropped
+                assertEquals( List.class, fas.getAccessor( "labels" ).getType() );
+                assertTrue( fas.getAccessor( "nickname" ).isMutable() ); // private, thru getNickname() & setNickname()
+                assertFalse( fas.getAccessor( "member" ).isMutable() ); // private, thru isMember(), no setter
+                assertFalse( fas.getAccessor( "visits" ).isMutable() );
+                assertInstanceOf( LongAccessor.class, fas.getAccessor( "visits" ) ); // read-only primitive, unboxed
+                assertInstanceOf( BooleanAccessor.class, fas.getAccessor( "member" ) );
+                assertInstanceOf( BooleanAccessor.class, fas.getAccessor( "active" ) );
+
+                Object person = personType.getConstructor().newInstance();
+                fas.setValue( person, "name", "Fred" );
+                fas.setValue( person, "age", 42 );
+                fas.setValue( person, "idNumber", 7L );
+                fas.setValue( person, "ratio", 0.5 );
+                fas.setValue( person, "active", true );
+                fas.setValue( person, "tags", List.of( "a" ) );
+                assertEquals( "Fred", fas.getValue( person, "name" ) );
+                assertEquals( Integer.valueOf( 42 ), fas.getValue( person, "age" ) );
+                assertEquals( Long.valueOf( 7 ), fas.getValue( person, "idNumber" ) );
+                assertEquals( Double.valueOf( 0.5 ), fas.getValue( person, "ratio" ) );
+                assertEquals( Boolean.TRUE, fas.getValue( person, "active" ) );
+                assertEquals( "C", fas.getValue( person, "code" ) );
+                assertEquals( List.of( "a" ), fas.getValue( person, "tags" ) );
+                assertNull( fas.getValue( person, "score" ) );
+                fas.setValue( person, "alias", "F" );
+                fas.setValue( person, "labels", List.of( "b" ) );
+                fas.setValue( person, "nickname", "Freddy" );
+                personType.getDeclaredMethod( "recordVisit" ).invoke( person );
+                assertEquals( "F", fas.getValue( person, "alias" ) );
+                assertEquals( List.of( "b" ), fas.getValue( person, "labels" ) );
+                assertEquals( "Freddy", fas.getValue( person, "nickname" ) );
+                assertEquals( Boolean.FALSE, fas.getValue( person, "member" ) );
+                assertEquals( 1L, Cast.<LongAccessor<Object>>it( fas.getAccessor( "visits" ) ).getLong( person ) );
+                assertTrue( fas.isValid( person ) );
+
+                fas.setValue( person, "name", "Fred Flintstone" );
+                List<FieldError> errors = fas.validate( person );
+                assertEquals( 1, errors.size() );
+                assertEquals( "name", errors.get( 0 ).getFieldName() );
+            }
+        }
+        finally {
+            delete( dir );
+        }
+    }
+
+    @Test
+    void test_errors()
+            throws Exception {
+        Path dir = Files.createTempDirectory( "processor" );
+        try {
+            DiagnosticCollector<JavaFileObject> diagnostics = compile( dir, """
+                    package sample;
+
+                    @org.litesoft.fields.GenerateFieldAccessors
+                    public class Bad {
+                        private String secret;
+                        private boolean hidden;
+                        short small;
+
+                        public Object getSecret() {
+                            return secret;
+                        }
+                    }
+                    """ );
+            String messages = diagnostics.getDiagnostics().toString();
+            assertTrue( messages.contains( "private field 'secret' has no (accessible) getSecret() getter" ), messages ); // wrong type
+            assertTrue( messages.contains( "private field 'hidden' has no (accessible) getHidden() or isHidden() getter" ), messages );
+            assertTrue( messages.contains( "field 'small' is an unsupported primitive" ), messages );
+            assertFalse( Files.exists( dir.resolve( "gen/sample/BadFields.java" ) ) );
+        }
+        finally {
+            delete( dir );
+        }
+    }
+
+    @Test
+    void test_toConstant() {
+        assertEquals( "NAME", FieldAccessorsProcessor.toConstant( "name" ) );
+        assertEquals( "EDUCATION_LEVEL", FieldAccessorsProcessor.toConstant( "educationLevel" ) );
+        assertEquals( "URL_TEXT", FieldAccessorsProcessor.toConstant( "URLText" ) );
+        assertEquals( "PARENT_1", FieldAccessorsProcessor.toConstant( "parent_1" ) );
+    }
+
+    private static DiagnosticCollector<JavaFileObject> compile( Path dir, String source )
+            throws IOException {
+        String className = source.substring( source.indexOf( "public class " ) + 13 ).split( "\\s" )[0];
+        Path sourceFile = dir.resolve( "src/sample/" + className + ".java" );
+        Files.createDirectories( sourceFile.getParent() );
+        Files.createDirectories( dir.resolve( "gen" ) );
+        Files.createDirectories( dir.resolve( "out" ) );
+        Files.writeString( sourceFile, source );
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try ( StandardJavaFileManager fileManager = compiler.getStandardFileManager( diagnostics, null, null ) ) {
+            List<String> options = List.of( "-classpath", System.getProperty( "java.class.path" ),
+                                            "-s", dir.resolve( "gen" ).toString(), "-d", dir.resolve( "out" ).toString() );
+            JavaCompiler.CompilationTask task = compiler.getTask( null, fileManager, diagnostics, options, null,
+                                                                  fileManager.getJavaFileObjects( sourceFile ) );
+            task.setProcessors( List.of( new FieldAccessorsProcessor() ) );
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    private static void delete( Path dir )
+            throws IOException {
+        try ( Stream<Path> paths = Files.walk( dir ) ) {
+            for ( Path path : paths.sorted( Comparator.reverseOrder() ).toList() ) {
+                Files.delete( path );
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.litesoft.fields;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Common base of the fixed slot (see <code>RecordLayout</code>) record stores.
+ * <p>
+ * The records are held in equal size segments (ByteBuffers) of <code>recordsPerSegment</code> records, so record <code>index</code> is in segment
+ * <code>index / recordsPerSegment</code>, at offset <code>(index % recordsPerSegment) * recordSize</code>.
+ * Growing only adds segments (nothing is copied, and existing segments are never replaced), and the stores are not limited to a single buffer's 2GB.
+ */
+abstract class AbstractRecordStore<T> {
+    final RecordLayout<T> layout;
+    final int recordSize;
+    final int recordsPerSegment;
+    private ByteBuffer[] segments = new ByteBuffer[0];
+    int size;
+
+    AbstractRecordStore( RecordLayout<T> layout, int recordsPerSegment ) {
+        this.layout = layout;
+        this.recordSize = layout.recordSize();
+        this.recordsPerSegment = Math.max( 1, Math.min( recordsPerSegment, Integer.MAX_VALUE / recordSize ) );
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long capacity() {
+        return (long)segments.length * recordsPerSegment;
+    }
+
+    public int getRecordSize() {
+        return recordSize;
+    }
+
+    /**
+     * @return the field (index) of the named (mutable) field, for the field index based <code>RecordView</code> methods
+     */
+    public int fieldIndex( String name ) {
+        return layout.fieldIndex( name );
+    }
+
+    /**
+     * Append the (mutable) fields of the <code>instance</code> as a new record.
+     *
+     * @return the index of the new record
+     */
+    public int add( T instance ) {
+        if ( size == Integer.MAX_VALUE ) {
+            throw new IllegalStateException( getClass().getSimpleName() + " full" );
+        }
+        int index = size;
+        ensureCapacity( index + 1 );
+        layout.write( segmentOf( index ), offsetOf( index ), instance );
+        sizeChanged( index + 1 );
+        return index;
+    }
+
+    public T read( int index, T target ) {
+        return layout.read( segmentOf( checkIndex( index ) ), offsetOf( index ), target );
+    }
+
+    /**
+     * Overwrite the record at <code>index</code> from the (mutable) fields of the <code>instance</code>.
+     */
+    public void update( int index, T instance ) {
+        layout.write( segmentOf( checkIndex( index ) ), offsetOf( index ), instance );
+    }
+
+    /**
+     * @return a flyweight view of the record at <code>index</code> (which can be moved to other records, see <code>RecordView.moveTo</code>)
+     */
+    public RecordView<T> view( int index ) {
+        return new RecordView<>( this, index );
+    }
+
+    int checkIndex( int index ) {
+        if ( (index < 0) || (size <= index) ) {
+            throw new IndexOutOfBoundsException( "record " + index + " not in store of size: " + size );
+        }
+        return index;
+    }
+
+    ByteBuffer segmentOf( int index ) {
+        return segments[index / recordsPerSegment];
+    }
+
+    int offsetOf( int index ) {
+        return (index % recordsPerSegment) * recordSize;
+    }
+
+    int segmentBytes() {
+        return recordsPerSegment * recordSize;
+    }
+
+    void ensureCapacity( int records ) {
+        if ( records > capacity() ) {
+            int needed = (int)(((long)records + recordsPerSegment - 1) / recordsPerSegment);
+            int existing = segments.length;
+            segments = Arrays.copyOf( segments, needed );
+            for ( int segment = existing; segment < needed; segment++ ) {
+                segments[segment] = newSegment( segment );
+            }
+        }
+    }
+
+    /**
+     * @return a (zeroed or previously persisted) buffer of <code>segmentBytes()</code> for the segment
+     */
+    abstract ByteBuffer newSegment( int segment );
+
+    void sizeChanged( int size ) {
+        this.size = size;
+    }
+}
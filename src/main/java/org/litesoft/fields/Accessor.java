@@ -1,14 +1,46 @@
 package org.litesoft.fields;
 
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.litesoft.exceptions.ExceededMaxLengthException;
 import org.litesoft.utils.Cast;
+import org.litesoft.utils.TemplatedMessage;
+import org.litesoft.utils.TemplatedMessageException;
 
 //@SuppressWarnings({"unused", "UnusedReturnValue"})
 @SuppressWarnings("UnusedReturnValue")
 public class Accessor<T, R> implements Function<T, R> {
+    /**
+     * Reporting (non-throwing) per field validation implementation.
+     */
+    @FunctionalInterface
+    public interface Reporter<R> {
+        /**
+         * @return true if valid, false if any errors were added (normally under the <code>fieldName</code>) to the <code>sink</code>
+         */
+        boolean validate( String fieldName, R value, FieldErrorSink sink );
+    }
+
+    static final String MAX_LENGTH_FMT = ExceededMaxLengthException.MSG_PREFIX + "(.|0|.), length was: .|1|."; // same as the exception's
+    /**
+     * Per (sub)class, if <code>validate( instance )</code> is overridden (beyond Accessor & PrimitiveAccessor), see <code>validate( instance, sink )</code>.
+     */
+    private static final ClassValue<Boolean> VALIDATE_OVERRIDDEN = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue( Class<?> type ) {
+            try {
+                Class<?> declaring = type.getMethod( "validate", Object.class ).getDeclaringClass();
+                return (declaring != Accessor.class) && (declaring != PrimitiveAccessor.class);
+            }
+            catch ( NoSuchMethodException e ) {
+                throw new Error( e );
+            }
+        }
+    };
+
+    static final String ERROR_FROZEN_PREFIX = "Accessor schema (type, max length, metadata) frozen, w/ owning FieldAccessors done(), for: ";
 
     public static <T, R> Accessor<T, R> of( AccessorType accessorType, String name, Function<T, R> accessor ) {
         return new Accessor<>( accessorType, name, accessor );
@@ -19,9 +51,12 @@ public class Accessor<T, R> implements Function<T, R> {
     private final Function<T, R> accessor;
     private String metaData;
     private Class<? extends R> type;
-    private String typeWithOptionalSize = "";
+    private String typeWithOptionalSize; // lazily (re)built, null -> not built
+    private String description; // lazily (re)built, null -> not built
     private Integer maxLength;
     private Consumer<? extends R> validator;
+    private Reporter<? extends R> reporter;
+    private boolean frozen; // set by the owning FieldAccessors' done() (and published by it)
 
     protected Accessor( AccessorType accessorType, String name, Function<T, R> accessor ) {
         this.accessorType = accessorType;
@@ -50,6 +85,27 @@ public class Accessor<T, R> implements Function<T, R> {
         return accessor.apply( instance );
     }
 
+    /**
+     * @return the hash of the field's value (Objects.hashCode of the value); overridden by the primitive Accessors to avoid boxing
+     */
+    public int hashValue( T instance ) {
+        return Objects.hashCode( getValue( instance ) );
+    }
+
+    /**
+     * @return if the field's value is equal on both instances; overridden by the primitive Accessors to avoid boxing
+     */
+    public boolean equalValues( T us, T them ) {
+        return Objects.equals( getValue( us ), getValue( them ) );
+    }
+
+    /**
+     * Add the field's name and value to the <code>builder</code>; overridden by the primitive Accessors to avoid boxing
+     */
+    public ToStringBuilder addValueTo( ToStringBuilder builder, T instance ) {
+        return builder.add( getName(), getValue( instance ) );
+    }
+
     public void validate( T instance ) {
         R value = normalize( instance, getValue( instance ) ); // if the value is changed then the updated value is saved
         if ( value == null ) {
@@ -61,6 +117,17 @@ public class Accessor<T, R> implements Function<T, R> {
         if ( validator != null ) {
             validator.accept( Cast.it( value ) );
         }
+        if ( reporter != null ) {
+            TemplatedMessage[] first = {null};
+            reporter.validate( name, Cast.it( value ), ( fieldName, templatedMessage ) -> {
+                if ( first[0] == null ) {
+                    first[0] = templatedMessage;
+                }
+            } );
+            if ( first[0] != null ) {
+                throw new TemplatedMessageException( first[0].getFmtString(), first[0].getIndexedFmtData() );
+            }
+        }
         if ( maxLength != null ) {
             int actualLength = typeToLength( value );
             if ( actualLength > maxLength ) {
@@ -69,6 +136,66 @@ public class Accessor<T, R> implements Function<T, R> {
         }
     }
 
+    /**
+     * Validate without throwing, any problem is reported (under the field's name) to the <code>sink</code>.
+     * <p>
+     * The built-in (required & max length) checks, and a <code>Reporter</code>, report directly (no exceptions are created);
+     * only the exceptions (of the getter, normalizer, validator, or <code>Reporter</code>) are caught and adapted.
+     * <p>
+     * If a subclass overrides <code>validate( instance )</code>, this dispatches thru it (adapting its exceptions), so the override is still honored.
+     *
+     * @return true if valid
+     */
+    public boolean validate( T instance, FieldErrorSink sink ) {
+        if ( validateOverridden() ) {
+            try {
+                validate( instance );
+                return true;
+            }
+            catch ( RuntimeException e ) {
+                sink.add( name, e );
+                return false;
+            }
+        }
+        R value;
+        try {
+            value = normalize( instance, getValue( instance ) ); // if the value is changed then the updated value is saved
+            if ( (value != null) && (validator != null) ) {
+                validator.accept( Cast.it( value ) );
+            }
+        }
+        catch ( RuntimeException e ) {
+            sink.add( name, e );
+            return false;
+        }
+        if ( value == null ) {
+            if ( getAccessorType() == AccessorType.required ) {
+                sink.add( name, RequiredFieldInsignificantException.MSG );
+                return false;
+            }
+            return true;
+        }
+        if ( reporter != null ) {
+            try {
+                if ( !reporter.validate( name, Cast.it( value ), sink ) ) {
+                    return false;
+                }
+            }
+            catch ( RuntimeException e ) {
+                sink.add( name, e );
+                return false;
+            }
+        }
+        if ( maxLength != null ) {
+            int actualLength = typeToLength( value );
+            if ( actualLength > maxLength ) {
+                sink.add( name, MAX_LENGTH_FMT, "" + maxLength, "" + actualLength );
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public R apply( T instance ) {
         return getValue( instance );
@@ -82,14 +209,28 @@ public class Accessor<T, R> implements Function<T, R> {
         return type;
     }
 
+    /**
+     * @return the max length (see <code>addMaxLength</code>), or null if none
+     */
+    public Integer getMaxLength() {
+        return maxLength;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "('" + name + "')";
     }
 
+    /**
+     * @return the (unpadded) description, built once (and again only if the type, max length, or metadata change)
+     */
     @SuppressWarnings("unused")
     public String description() {
-        return description( new StringBuilder(), null, null ).toString();
+        String description = this.description;
+        if ( description == null ) {
+            this.description = description = description( new StringBuilder(), null, null ).toString();
+        }
+        return description;
     }
 
     public int getNameLengthForDescription() {
@@ -97,7 +238,7 @@ public class Accessor<T, R> implements Function<T, R> {
     }
 
     public int getTypeLengthForDescription() {
-        return typeWithOptionalSize.length();
+        return typeWithOptionalSize().length();
     }
 
     public StringBuilder description( StringBuilder sb, Integer padNameToAtLeast, Integer padTypeToAtLeast ) {
@@ -107,8 +248,11 @@ public class Accessor<T, R> implements Function<T, R> {
         int relativeZero = sb.length();
         sb.append( name );
         String metaData = getMetaData();
+        String typeWithOptionalSize = typeWithOptionalSize();
         if ( !typeWithOptionalSize.isEmpty() || !metaData.isEmpty() ) {
-            padTo( sb, relativeZero + padNameToAtLeast );
+            if ( padNameToAtLeast != null ) {
+                padTo( sb, relativeZero + padNameToAtLeast );
+            }
             sb.append( ' ' );
             relativeZero = sb.length();
             sb.append( typeWithOptionalSize );
@@ -125,12 +269,24 @@ public class Accessor<T, R> implements Function<T, R> {
     public <TR extends R> Accessor<T, R> withType( Class<TR> type, Consumer<TR> validator ) {
         withType( type );
         this.validator = validator;
+        this.reporter = null;
+        return this;
+    }
+
+    /**
+     * Same as <code>withType( type, validator )</code>, but with a reporting (non-throwing) validator.
+     */
+    public <TR extends R> Accessor<T, R> withReportingType( Class<TR> type, Reporter<TR> reporter ) {
+        withType( type );
+        this.validator = null;
+        this.reporter = reporter;
         return this;
     }
 
     public Accessor<T, R> withType( Class<? extends R> type ) {
+        assertNotFrozen();
         this.type = type;
-        populateTypeWithOptionalSize();
+        schemaChanged();
         return this;
     }
 
@@ -138,22 +294,27 @@ public class Accessor<T, R> implements Function<T, R> {
         if ( maxLength < 1 ) {
             throw new Error( "coding error, max length must be at least 1" );
         }
+        assertNotFrozen();
         this.maxLength = maxLength;
-        populateTypeWithOptionalSize();
+        schemaChanged();
         return this;
     }
 
     public Accessor<T, R> addMetaData( String additionalMetaData ) {
+        assertNotFrozen();
         additionalMetaData = (additionalMetaData == null) ? "" : additionalMetaData.trim();
         if ( !additionalMetaData.isEmpty() ) {
             this.metaData = this.metaData.isEmpty() ? additionalMetaData :
                             (this.metaData + " & " + additionalMetaData);
+            description = null;
         }
         return this;
     }
 
     public Accessor<T, R> withMetaData( String metaData ) {
+        assertNotFrozen();
         this.metaData = (metaData == null) ? "" : metaData.trim();
+        description = null;
         return this;
     }
 
@@ -161,19 +322,51 @@ public class Accessor<T, R> implements Function<T, R> {
         return value;
     }
 
-    private void populateTypeWithOptionalSize() {
-        Class<? extends R> type = getType();
-        typeWithOptionalSize = (type == null) ? "" : type.getSimpleName();
-        if ( maxLength != null ) {
-            typeWithOptionalSize += "(" + maxLength + ")";
+    /**
+     * @return true if validate has anything to check (or normalize) beyond the required (null) check
+     */
+    protected boolean hasValueChecks() {
+        return (validator != null) || (reporter != null) || (maxLength != null);
+    }
+
+    /**
+     * Called by the owning FieldAccessors' <code>done()</code>, as its cached description and schema fingerprint depend on the schema.
+     */
+    void freeze() {
+        frozen = true;
+    }
+
+    void assertNotFrozen() {
+        if ( frozen ) {
+            throw new Error( ERROR_FROZEN_PREFIX + name );
+        }
+    }
+
+    boolean validateOverridden() {
+        return VALIDATE_OVERRIDDEN.get( getClass() );
+    }
+
+    private void schemaChanged() {
+        typeWithOptionalSize = null;
+        description = null;
+    }
+
+    private String typeWithOptionalSize() {
+        String typeWithOptionalSize = this.typeWithOptionalSize;
+        if ( typeWithOptionalSize == null ) {
+            Class<? extends R> type = getType();
+            typeWithOptionalSize = (type == null) ? "" : type.getSimpleName();
+            if ( maxLength != null ) {
+                typeWithOptionalSize += "(" + maxLength + ")";
+            }
+            this.typeWithOptionalSize = typeWithOptionalSize;
         }
+        return typeWithOptionalSize;
     }
 
     private static void padTo( StringBuilder sb, Integer toAtLeast ) {
         if ( toAtLeast != null ) {
-            while ( sb.length() < toAtLeast ) {
-                sb.append( ' ' );
-            }
+            StringBuilderUtils.addIndentation( sb, toAtLeast - sb.length() );
         }
     }
 
@@ -0,0 +1,99 @@
+package org.litesoft.fields;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Batch (optionally parallel) validation support for <code>FieldAccessors</code>.
+ * <p>
+ * As validation may mutate the instances (normalizers and ValueGenerators), each instance is only ever validated by a single thread;
+ * this assumes the same instance is not in the batch more than once.
+ * The results are always in index order (regardless of the order the instances were actually validated in), and null instances are skipped.
+ */
+final class BatchValidator<T> {
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+    private static final int CHUNKS_PER_PROCESSOR = 4;
+
+    private final FieldAccessors<T> fas;
+
+    BatchValidator( FieldAccessors<T> fas ) {
+        this.fas = fas;
+    }
+
+    List<IndexedErrors> validate( Spliterator<T> instances, boolean parallel ) {
+        return parallel ?
+               ForkJoinPool.commonPool().invoke( new ValidateTask( instances, 0 ) ) :
+               validateSequentially( instances, 0 );
+    }
+
+    List<IndexedErrors> validate( List<T> instances, Executor executor ) {
+        int size = instances.size();
+        int chunkSize = Math.max( SEQUENTIAL_THRESHOLD, size / (CHUNKS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors()) );
+        List<CompletableFuture<List<IndexedErrors>>> chunks = new ArrayList<>();
+        for ( int from = 0; from < size; from += chunkSize ) {
+            int fromIndex = from;
+            int toIndex = Math.min( size, from + chunkSize );
+            chunks.add( CompletableFuture.supplyAsync( () -> validateRange( instances, fromIndex, toIndex ), executor ) );
+        }
+        List<IndexedErrors> results = new ArrayList<>();
+        for ( CompletableFuture<List<IndexedErrors>> chunk : chunks ) { // joined in index order
+            results.addAll( chunk.join() );
+        }
+        return results;
+    }
+
+    private List<IndexedErrors> validateRange( List<T> instances, int fromIndex, int toIndex ) {
+        List<IndexedErrors> results = new ArrayList<>();
+        for ( int i = fromIndex; i < toIndex; i++ ) {
+            addErrors( results, i, instances.get( i ) );
+        }
+        return results;
+    }
+
+    private List<IndexedErrors> validateSequentially( Spliterator<T> instances, long baseIndex ) {
+        List<IndexedErrors> results = new ArrayList<>();
+        long[] index = {baseIndex};
+        instances.forEachRemaining( instance -> addErrors( results, index[0]++, instance ) );
+        return results;
+    }
+
+    private void addErrors( List<IndexedErrors> results, long index, T instance ) {
+        List<FieldError> errors = fas.validate( instance );
+        if ( (errors != null) && !errors.isEmpty() ) {
+            results.add( new IndexedErrors( index, errors ) );
+        }
+    }
+
+    private class ValidateTask extends RecursiveTask<List<IndexedErrors>> {
+        private final Spliterator<T> instances;
+        private final long baseIndex;
+
+        ValidateTask( Spliterator<T> instances, long baseIndex ) {
+            this.instances = instances;
+            this.baseIndex = baseIndex;
+        }
+
+        @Override
+        protected List<IndexedErrors> compute() {
+            // Splitting is only index safe when the prefix's exact size is known (SUBSIZED)
+            if ( (instances.estimateSize() > SEQUENTIAL_THRESHOLD) && instances.hasCharacteristics( Spliterator.SUBSIZED ) ) {
+                Spliterator<T> prefix = instances.trySplit();
+                if ( prefix != null ) {
+                    ValidateTask prefixTask = new ValidateTask( prefix, baseIndex );
+                    ValidateTask suffixTask = new ValidateTask( instances, baseIndex + prefix.getExactSizeIfKnown() );
+                    prefixTask.fork();
+                    List<IndexedErrors> suffixResults = suffixTask.compute();
+                    List<IndexedErrors> results = prefixTask.join();
+                    results.addAll( suffixResults );
+                    return results;
+                }
+            }
+            return validateSequentially( instances, baseIndex );
+        }
+    }
+}
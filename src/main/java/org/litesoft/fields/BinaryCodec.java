@@ -0,0 +1,250 @@
+package org.litesoft.fields;
+
+import java.nio.ByteBuffer;
+
+import org.litesoft.exceptions.ExceededMaxLengthException;
+import org.litesoft.utils.Cast;
+
+/**
+ * Compact schema driven binary encoding of the (mutable) fields of a closed <code>FieldAccessors</code>, decoded back thru the MutableAccessors.
+ * <p>
+ * The layout is: a null bitmap (one bit per nullable field, i.e. the non-primitive Accessors), followed by each non-null field's value in add order:
+ * <ul>
+ *     <li>int & long - zigzag varint</li>
+ *     <li>double - 8 bytes</li>
+ *     <li>boolean - 1 byte</li>
+ *     <li>String - varint UTF-8 byte length, then the UTF-8 bytes (bounded by the field's max length, if any)</li>
+ * </ul>
+ * As there is no schema information in the encoding, the same (field order & kinds) <code>FieldAccessors</code> must be used to decode.
+ * A codec is immutable (thread safe).
+ */
+@SuppressWarnings("unused")
+public final class BinaryCodec<T> {
+    static final String ERROR_CORRUPT_PREFIX = "Corrupt encoding, ";
+
+    public static <T> BinaryCodec<T> of( FieldAccessors<T> fas ) {
+        return new BinaryCodec<>( fas );
+    }
+
+    private final MutableAccessor<T, ?>[] accessors;
+    private final FieldKind[] kinds;
+    private final int[] nullBits; // -1 for the primitive (never null) fields
+    private final int bitmapBytes;
+
+    private BinaryCodec( FieldAccessors<T> fas ) {
+        if ( !fas.isDone() ) {
+            throw new Error( FieldAccessors.ERROR_NOT_DONE );
+        }
+        accessors = fas.mutables();
+        kinds = new FieldKind[accessors.length];
+        nullBits = new int[accessors.length];
+        int nullables = 0;
+        for ( int i = 0; i < accessors.length; i++ ) {
+            kinds[i] = FieldKind.required( accessors[i], "BinaryCodec" );
+            nullBits[i] = FieldKind.isPrimitive( accessors[i] ) ? -1 : nullables++;
+        }
+        bitmapBytes = (nullables + 7) >>> 3;
+    }
+
+    /**
+     * @return the exact number of bytes <code>encode</code> will write for the <code>instance</code>
+     */
+    public int encodedSize( T instance ) {
+        int size = bitmapBytes;
+        for ( int i = 0; i < accessors.length; i++ ) {
+            MutableAccessor<T, ?> accessor = accessors[i];
+            switch ( kinds[i] ) {
+                case INT -> size += (nullBits[i] < 0) ? varLongSize( zigzag( Cast.<IntAccessor<T>>it( accessor ).getInt( instance ) ) ) :
+                                    boxedSize( accessor.getValue( instance ) );
+                case LONG -> size += (nullBits[i] < 0) ? varLongSize( zigzag( Cast.<LongAccessor<T>>it( accessor ).getLong( instance ) ) ) :
+                                     boxedSize( accessor.getValue( instance ) );
+                case DOUBLE -> size += (nullBits[i] < 0) ? 8 : boxedSize( accessor.getValue( instance ) );
+                case BOOLEAN -> size += (nullBits[i] < 0) ? 1 : boxedSize( accessor.getValue( instance ) );
+                case STRING -> size += boxedSize( accessor.getValue( instance ) );
+            }
+        }
+        return size;
+    }
+
+    public byte[] encode( T instance ) {
+        byte[] bytes = new byte[encodedSize( instance )];
+        encode( instance, ByteBuffer.wrap( bytes ) );
+        return bytes;
+    }
+
+    /**
+     * Encode the <code>instance</code> into the <code>buffer</code> (at its position, which is advanced).
+     * <p>
+     * If the encoding fails, the <code>buffer</code>'s position is restored, so a partial encoding is not left as part of the buffer's content.
+     *
+     * @throws ExceededMaxLengthException if a String exceeds its field's max length
+     */
+    public ByteBuffer encode( T instance, ByteBuffer buffer ) {
+        int bitmapAt = buffer.position();
+        try {
+            return encode( instance, buffer, bitmapAt );
+        }
+        catch ( RuntimeException e ) {
+            buffer.position( bitmapAt );
+            throw e;
+        }
+    }
+
+    private ByteBuffer encode( T instance, ByteBuffer buffer, int bitmapAt ) {
+        for ( int i = 0; i < bitmapBytes; i++ ) {
+            buffer.put( (byte)0 );
+        }
+        for ( int i = 0; i < accessors.length; i++ ) {
+            MutableAccessor<T, ?> accessor = accessors[i];
+            int nullBit = nullBits[i];
+            if ( nullBit < 0 ) {
+                encodePrimitive( kinds[i], accessor, instance, buffer );
+                continue;
+            }
+            Object value = accessor.getValue( instance );
+            if ( value == null ) {
+                int at = bitmapAt + (nullBit >>> 3);
+                buffer.put( at, (byte)(buffer.get( at ) | (1 << (nullBit & 7))) );
+            } else {
+                encodeBoxed( kinds[i], accessor, value, buffer );
+            }
+        }
+        return buffer;
+    }
+
+    public T decode( byte[] bytes, T target ) {
+        return decode( ByteBuffer.wrap( bytes ), target );
+    }
+
+    /**
+     * Decode an encoding from the <code>buffer</code> (at its position, which is advanced) into the <code>target</code>.
+     */
+    public T decode( ByteBuffer buffer, T target ) {
+        int bitmapAt = buffer.position();
+        buffer.position( bitmapAt + bitmapBytes );
+        for ( int i = 0; i < accessors.length; i++ ) {
+            MutableAccessor<T, Object> accessor = Cast.it( accessors[i] );
+            int nullBit = nullBits[i];
+            if ( nullBit < 0 ) {
+                decodePrimitive( kinds[i], accessor, target, buffer );
+            } else if ( (buffer.get( bitmapAt + (nullBit >>> 3) ) & (1 << (nullBit & 7))) != 0 ) {
+                accessor.setValue( target, null );
+            } else {
+                accessor.setValue( target, decodeBoxed( kinds[i], accessor, buffer ) );
+            }
+        }
+        return target;
+    }
+
+    private void encodePrimitive( FieldKind kind, MutableAccessor<T, ?> accessor, T instance, ByteBuffer buffer ) {
+        switch ( kind ) {
+            case INT -> putVarLong( buffer, zigzag( Cast.<IntAccessor<T>>it( accessor ).getInt( instance ) ) );
+            case LONG -> putVarLong( buffer, zigzag( Cast.<LongAccessor<T>>it( accessor ).getLong( instance ) ) );
+            case DOUBLE -> buffer.putDouble( Cast.<DoubleAccessor<T>>it( accessor ).getDouble( instance ) );
+            case BOOLEAN -> buffer.put( (byte)(Cast.<BooleanAccessor<T>>it( accessor ).getBoolean( instance ) ? 1 : 0) );
+            default -> throw new Error( "Not a primitive kind: " + kind );
+        }
+    }
+
+    private void decodePrimitive( FieldKind kind, MutableAccessor<T, ?> accessor, T target, ByteBuffer buffer ) {
+        switch ( kind ) {
+            case INT -> Cast.<IntAccessor<T>>it( accessor ).setInt( target, (int)unzigzag( getVarLong( buffer ) ) );
+            case LONG -> Cast.<LongAccessor<T>>it( accessor ).setLong( target, unzigzag( getVarLong( buffer ) ) );
+            case DOUBLE -> Cast.<DoubleAccessor<T>>it( accessor ).setDouble( target, buffer.getDouble() );
+            case BOOLEAN -> Cast.<BooleanAccessor<T>>it( accessor ).setBoolean( target, buffer.get() != 0 );
+            default -> throw new Error( "Not a primitive kind: " + kind );
+        }
+    }
+
+    private static void encodeBoxed( FieldKind kind, Accessor<?, ?> accessor, Object value, ByteBuffer buffer ) {
+        switch ( kind ) {
+            case INT -> putVarLong( buffer, zigzag( (Integer)value ) );
+            case LONG -> putVarLong( buffer, zigzag( (Long)value ) );
+            case DOUBLE -> buffer.putDouble( (Double)value );
+            case BOOLEAN -> buffer.put( (byte)((Boolean)value ? 1 : 0) );
+            case STRING -> {
+                String string = (String)value;
+                Integer maxLength = accessor.getMaxLength();
+                if ( (maxLength != null) && (string.length() > maxLength) ) {
+                    throw new ExceededMaxLengthException( maxLength, string.length() );
+                }
+                putVarLong( buffer, Utf8.length( string ) );
+                Utf8.encode( string, buffer );
+            }
+        }
+    }
+
+    private static Object decodeBoxed( FieldKind kind, Accessor<?, ?> accessor, ByteBuffer buffer ) {
+        return switch ( kind ) {
+            case INT -> (int)unzigzag( getVarLong( buffer ) );
+            case LONG -> unzigzag( getVarLong( buffer ) );
+            case DOUBLE -> buffer.getDouble();
+            case BOOLEAN -> buffer.get() != 0;
+            case STRING -> decodeString( accessor, buffer );
+        };
+    }
+
+    private static String decodeString( Accessor<?, ?> accessor, ByteBuffer buffer ) {
+        long byteLength = getVarLong( buffer );
+        Integer maxLength = accessor.getMaxLength();
+        long maxBytes = (maxLength == null) ? Integer.MAX_VALUE : (3L * maxLength); // a char is at most 3 UTF-8 bytes (a surrogate pair 4 for 2 chars)
+        if ( (byteLength < 0) || (maxBytes < byteLength) ) {
+            throw new IllegalStateException( ERROR_CORRUPT_PREFIX + "field '" + accessor.getName() + "' length of: " + byteLength );
+        }
+        return Utf8.decode( buffer, (int)byteLength );
+    }
+
+    private static int boxedSize( Object value ) {
+        if ( value instanceof String ) {
+            int byteLength = Utf8.length( (String)value );
+            return varLongSize( byteLength ) + byteLength;
+        }
+        if ( value instanceof Integer ) {
+            return varLongSize( zigzag( (Integer)value ) );
+        }
+        if ( value instanceof Long ) {
+            return varLongSize( zigzag( (Long)value ) );
+        }
+        if ( value instanceof Double ) {
+            return 8;
+        }
+        return (value instanceof Boolean) ? 1 : 0; // null (in the bitmap)
+    }
+
+    static long zigzag( long value ) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag( long value ) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int varLongSize( long value ) {
+        int size = 1;
+        while ( (value & ~0x7FL) != 0 ) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    static void putVarLong( ByteBuffer buffer, long value ) {
+        while ( (value & ~0x7FL) != 0 ) {
+            buffer.put( (byte)((value & 0x7F) | 0x80) );
+            value >>>= 7;
+        }
+        buffer.put( (byte)value );
+    }
+
+    static long getVarLong( ByteBuffer buffer ) {
+        long result = 0;
+        for ( int shift = 0; shift < 64; shift += 7 ) {
+            byte b = buffer.get();
+            result |= (long)(b & 0x7F) << shift;
+            if ( b >= 0 ) {
+                return result;
+            }
+        }
+        throw new IllegalStateException( ERROR_CORRUPT_PREFIX + "varint too long" );
+    }
+}
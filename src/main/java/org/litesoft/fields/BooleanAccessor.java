@@ -0,0 +1,59 @@
+package org.litesoft.fields;
+
+import java.util.function.Predicate;
+
+public class BooleanAccessor<T> extends PrimitiveAccessor<T, Boolean> {
+    public interface ObjBooleanConsumer<T> {
+        void accept( T t, boolean value );
+    }
+
+    /**
+     * @return a read only (not mutable) BooleanAccessor
+     */
+    public static <T> BooleanAccessor<T> of( AccessorType accessorType, String name, Predicate<T> getter ) {
+        return new BooleanAccessor<>( accessorType, name, getter, null );
+    }
+
+    public static <T> BooleanAccessor<T> of( AccessorType accessorType, String name, Predicate<T> getter, ObjBooleanConsumer<T> setter ) {
+        return new BooleanAccessor<>( accessorType, name, getter, setter );
+    }
+
+    private final Predicate<T> getter;
+    private final ObjBooleanConsumer<T> setter;
+
+    private BooleanAccessor( AccessorType accessorType, String name, Predicate<T> getter, ObjBooleanConsumer<T> setter ) {
+        super( accessorType, name, getter::test, (setter == null) ? null : setter::accept, boolean.class );
+        this.getter = getter;
+        this.setter = (setter != null) ? setter : ( instance, value ) -> {
+            throw readOnlyError();
+        };
+    }
+
+    public boolean getBoolean( T instance ) {
+        return getter.test( instance );
+    }
+
+    public void setBoolean( T instance, boolean value ) {
+        setter.accept( instance, value );
+    }
+
+    @Override
+    public int hashValue( T instance ) {
+        return Boolean.hashCode( getBoolean( instance ) );
+    }
+
+    @Override
+    public boolean equalValues( T us, T them ) {
+        return getBoolean( us ) == getBoolean( them );
+    }
+
+    @Override
+    public void copyValue( T to, T from ) {
+        setBoolean( to, getBoolean( from ) );
+    }
+
+    @Override
+    public ToStringBuilder addValueTo( ToStringBuilder builder, T instance ) {
+        return builder.add( getName(), getBoolean( instance ) );
+    }
+}
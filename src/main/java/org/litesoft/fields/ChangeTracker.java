@@ -0,0 +1,117 @@
+package org.litesoft.fields;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Opt-in (see <code>FieldAccessors.track( instance )</code>) dirty tracking of an instance's fields, where the changes are made thru the tracker.
+ * <p>
+ * Only the writes routed thru the tracker (its <code>setValue</code>s) are tracked; changes made thru the instance's own setters,
+ * or directly thru its FieldAccessors / Accessors, are NOT seen (other than in the current values reported by <code>getChanges()</code>).
+ * <p>
+ * The modified fields are recorded as a bitset of their ordinals, and a field's original value is only captured (the originals array lazily created)
+ * on its first change, so tracking an instance that is not changed costs nothing beyond the tracker itself.
+ * A tracker is NOT thread safe.
+ */
+@SuppressWarnings("unused")
+public final class ChangeTracker<T> {
+    private final FieldAccessors<T> fas;
+    private final T instance;
+    private final long[] modified;
+    private Object[] originals; // by ordinal, created on the first change
+
+    ChangeTracker( FieldAccessors<T> fas, T instance ) {
+        this.fas = fas;
+        this.instance = instance;
+        this.modified = new long[(fas.getFieldCount() + 63) >>> 6];
+    }
+
+    public T getInstance() {
+        return instance;
+    }
+
+    public <R> ChangeTracker<T> setValue( String name, R value ) {
+        int ordinal = fas.getOrdinal( name );
+        if ( ordinal < 0 ) {
+            throw new Error( FieldAccessors.ERROR_ACCESSOR_NOT_FOUND_PREFIX + name );
+        }
+        return setValue( ordinal, value );
+    }
+
+    public <R> ChangeTracker<T> setValue( int ordinal, R value ) {
+        if ( (0 <= ordinal) && (ordinal < fas.getFieldCount()) && isChanged( ordinal ) ) {
+            fas.setValue( instance, ordinal, value ); // original already captured, no need to read (or box) the current value
+            return this;
+        }
+        Object current = fas.getValue( instance, ordinal );
+        fas.setValue( instance, ordinal, value ); // checks the ordinal & mutability before anything is recorded
+        if ( !isChanged( ordinal ) ) {
+            if ( originals == null ) {
+                originals = new Object[fas.getFieldCount()];
+            }
+            originals[ordinal] = current;
+            modified[ordinal >>> 6] |= (1L << ordinal);
+        }
+        return this;
+    }
+
+    /**
+     * @return true if any field has been set (thru the tracker) since tracking started (or the last <code>reset()</code>)
+     */
+    public boolean isChanged() {
+        for ( long bits : modified ) {
+            if ( bits != 0 ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isChanged( int ordinal ) {
+        return (modified[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * @return the ordinals of the fields that have been set, in ordinal order
+     */
+    public int[] getChangedOrdinals() {
+        int count = 0;
+        for ( long bits : modified ) {
+            count += Long.bitCount( bits );
+        }
+        int[] ordinals = new int[count];
+        int index = 0;
+        for ( int word = 0; word < modified.length; word++ ) {
+            for ( long bits = modified[word]; bits != 0; bits &= (bits - 1) ) {
+                ordinals[index++] = (word << 6) + Long.numberOfTrailingZeros( bits );
+            }
+        }
+        return ordinals;
+    }
+
+    /**
+     * @return the change-set (in ordinal order) of the fields that have been set, excluding any field that has been set back to its original value
+     */
+    public List<FieldChange> getChanges() {
+        List<FieldChange> changes = new ArrayList<>();
+        for ( int ordinal : getChangedOrdinals() ) {
+            Object oldValue = originals[ordinal];
+            Object newValue = fas.getValue( instance, ordinal );
+            if ( !Objects.equals( oldValue, newValue ) ) {
+                changes.add( new FieldChange( fas.getAccessor( ordinal ).getName(), oldValue, newValue ) );
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Start tracking afresh (e.g. after the changes have been written), the current values becoming the originals.
+     */
+    public ChangeTracker<T> reset() {
+        Arrays.fill( modified, 0L );
+        originals = null;
+        return this;
+    }
+}
@@ -0,0 +1,479 @@
+package org.litesoft.fields;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.litesoft.utils.Cast;
+
+/**
+ * Columnar (struct-of-arrays) storage of rows, using a closed <code>FieldAccessors</code> as the schema.
+ * <p>
+ * Each field is stored in its own array: the int, long, double, and boolean fields (primitive or boxed) in primitive arrays
+ * (with a null bitset for the boxed fields), and any other field in an Object array.
+ * Rows are loaded from instances via the Accessors, and materialized back via the MutableAccessors (the read only fields are not materialized).
+ * Scans of a single field (see the column streams) touch only that field's contiguous array.
+ * <p>
+ * A table is NOT thread safe while rows are being added.
+ */
+@SuppressWarnings("unused")
+public final class ColumnarTable<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    public static <T> ColumnarTable<T> of( FieldAccessors<T> fas ) {
+        return new ColumnarTable<>( fas, DEFAULT_CAPACITY );
+    }
+
+    public static <T> ColumnarTable<T> of( FieldAccessors<T> fas, int initialCapacity ) {
+        return new ColumnarTable<>( fas, initialCapacity );
+    }
+
+    private final FieldAccessors<T> fas;
+    private final Column<T>[] columns; // by ordinal
+    private int capacity;
+    private int size;
+
+    private ColumnarTable( FieldAccessors<T> fas, int initialCapacity ) {
+        if ( !fas.isDone() ) {
+            throw new Error( FieldAccessors.ERROR_NOT_DONE );
+        }
+        this.fas = fas;
+        capacity = Math.max( 1, initialCapacity );
+        Accessor<T, ?>[] accessors = fas.accessors();
+        columns = Cast.it( new Column<?>[accessors.length] );
+        for ( int i = 0; i < accessors.length; i++ ) {
+            columns[i] = Column.create( accessors[i], capacity );
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the row (index) the <code>instance</code> was loaded into
+     */
+    public int add( T instance ) {
+        ensureCapacity( size + 1 );
+        for ( Column<T> column : columns ) {
+            column.load( size, instance );
+        }
+        return size++;
+    }
+
+    /**
+     * Bulk load; a column at a time, so each field's getter stays monomorphic in the inner loop.
+     */
+    public ColumnarTable<T> addAll( Collection<? extends T> instances ) {
+        Object[] rows = instances.toArray();
+        ensureCapacity( size + rows.length );
+        for ( Column<T> column : columns ) {
+            for ( int i = 0; i < rows.length; i++ ) {
+                column.load( size + i, Cast.it( rows[i] ) );
+            }
+        }
+        size += rows.length;
+        return this;
+    }
+
+    /**
+     * Set the (mutable) fields of the <code>target</code> from the <code>row</code>.
+     */
+    public T materialize( int row, T target ) {
+        checkRow( row );
+        for ( Column<T> column : columns ) {
+            column.materialize( row, target );
+        }
+        return target;
+    }
+
+    public List<T> materializeAll( Supplier<T> targetFactory ) {
+        List<T> targets = new ArrayList<>( size );
+        for ( int row = 0; row < size; row++ ) {
+            targets.add( materialize( row, targetFactory.get() ) );
+        }
+        return targets;
+    }
+
+    public boolean isNull( int row, int ordinal ) {
+        return column( ordinal ).isNull( checkRow( row ) );
+    }
+
+    public <R> R getValue( int row, String name ) {
+        return getValue( row, ordinalOf( name ) );
+    }
+
+    public <R> R getValue( int row, int ordinal ) {
+        return Cast.it( column( ordinal ).getValue( checkRow( row ) ) );
+    }
+
+    public int getInt( int row, int ordinal ) {
+        IntColumn<T> column = typed( ordinal, IntColumn.class, "int" );
+        return column.values[checkRow( row )];
+    }
+
+    public long getLong( int row, int ordinal ) {
+        LongColumn<T> column = typed( ordinal, LongColumn.class, "long" );
+        return column.values[checkRow( row )];
+    }
+
+    public double getDouble( int row, int ordinal ) {
+        DoubleColumn<T> column = typed( ordinal, DoubleColumn.class, "double" );
+        return column.values[checkRow( row )];
+    }
+
+    public boolean getBoolean( int row, int ordinal ) {
+        BooleanColumn<T> column = typed( ordinal, BooleanColumn.class, "boolean" );
+        return column.values[checkRow( row )];
+    }
+
+    /**
+     * @return the values of the named int (or Integer) field in row order, null (boxed) values being skipped
+     */
+    public IntStream intColumn( String name ) {
+        IntColumn<T> column = typed( ordinalOf( name ), IntColumn.class, "int" );
+        int[] values = column.values;
+        return (column.nulls == null) ? Arrays.stream( values, 0, size ) : nonNullRows( column ).map( row -> values[row] );
+    }
+
+    /**
+     * @return the values of the named long (or Long) field in row order, null (boxed) values being skipped
+     */
+    public LongStream longColumn( String name ) {
+        LongColumn<T> column = typed( ordinalOf( name ), LongColumn.class, "long" );
+        long[] values = column.values;
+        return (column.nulls == null) ? Arrays.stream( values, 0, size ) : nonNullRows( column ).mapToLong( row -> values[row] );
+    }
+
+    /**
+     * @return the values of the named double (or Double) field in row order, null (boxed) values being skipped
+     */
+    public DoubleStream doubleColumn( String name ) {
+        DoubleColumn<T> column = typed( ordinalOf( name ), DoubleColumn.class, "double" );
+        double[] values = column.values;
+        return (column.nulls == null) ? Arrays.stream( values, 0, size ) : nonNullRows( column ).mapToDouble( row -> values[row] );
+    }
+
+    /**
+     * @return the values (including nulls) of the named field in row order
+     */
+    public <R> Stream<R> column( String name ) {
+        Column<T> column = column( ordinalOf( name ) );
+        return IntStream.range( 0, size ).mapToObj( row -> Cast.it( column.getValue( row ) ) );
+    }
+
+    /**
+     * @return the rows where the named int (or Integer) field is not null and matches the <code>predicate</code>
+     */
+    public IntStream rowsWhereInt( String name, IntPredicate predicate ) {
+        IntColumn<T> column = typed( ordinalOf( name ), IntColumn.class, "int" );
+        int[] values = column.values;
+        return nonNullRows( column ).filter( row -> predicate.test( values[row] ) );
+    }
+
+    private IntStream nonNullRows( Column<T> column ) {
+        IntStream rows = IntStream.range( 0, size );
+        return (column.nulls == null) ? rows : rows.filter( row -> !column.isNull( row ) );
+    }
+
+    private void ensureCapacity( int needed ) {
+        if ( needed > capacity ) {
+            capacity = Math.max( needed, capacity + (capacity >> 1) );
+            for ( Column<T> column : columns ) {
+                column.grow( capacity );
+            }
+        }
+    }
+
+    private int checkRow( int row ) {
+        if ( (row < 0) || (size <= row) ) {
+            throw new IndexOutOfBoundsException( "row " + row + " not in table of size: " + size );
+        }
+        return row;
+    }
+
+    private int ordinalOf( String name ) {
+        int ordinal = fas.getOrdinal( name );
+        if ( ordinal < 0 ) {
+            throw new Error( FieldAccessors.ERROR_ACCESSOR_NOT_FOUND_PREFIX + name );
+        }
+        return ordinal;
+    }
+
+    private Column<T> column( int ordinal ) {
+        if ( (ordinal < 0) || (columns.length <= ordinal) ) {
+            throw new Error( FieldAccessors.ERROR_ORDINAL_OUT_OF_RANGE_PREFIX + ordinal );
+        }
+        return columns[ordinal];
+    }
+
+    private <C extends Column<T>> C typed( int ordinal, Class<?> columnType, String what ) {
+        Column<T> column = column( ordinal );
+        if ( !columnType.isInstance( column ) ) {
+            throw new Error( "Field '" + column.accessor.getName() + "' is not a column of: " + what );
+        }
+        return Cast.it( column );
+    }
+
+    private abstract static class Column<T> {
+        final Accessor<T, ?> accessor;
+        final MutableAccessor<T, Object> mutable; // null if read only
+        final boolean primitive;
+        long[] nulls; // bitset, only for nullable (not primitive) fields of the primitive array columns
+
+        Column( Accessor<T, ?> accessor, int capacity, boolean withNulls ) {
+            this.accessor = accessor;
+            this.mutable = Cast.it( accessor.asMutable() );
+            this.primitive = FieldKind.isPrimitive( accessor );
+            this.nulls = withNulls && !primitive ? new long[words( capacity )] : null;
+        }
+
+        static <T> Column<T> create( Accessor<T, ?> accessor, int capacity ) {
+            FieldKind kind = FieldKind.of( accessor );
+            if ( kind == null ) {
+                return new ObjectColumn<>( accessor, capacity );
+            }
+            return switch ( kind ) {
+                case INT -> new IntColumn<>( accessor, capacity );
+                case LONG -> new LongColumn<>( accessor, capacity );
+                case DOUBLE -> new DoubleColumn<>( accessor, capacity );
+                case BOOLEAN -> new BooleanColumn<>( accessor, capacity );
+                case STRING -> new ObjectColumn<>( accessor, capacity );
+            };
+        }
+
+        void load( int row, T instance ) {
+            if ( primitive ) {
+                loadPrimitive( row, instance );
+                return;
+            }
+            Object value = accessor.getValue( instance );
+            if ( nulls != null ) {
+                long bit = 1L << row;
+                if ( value == null ) {
+                    nulls[row >>> 6] |= bit;
+                    return;
+                }
+                nulls[row >>> 6] &= ~bit;
+            }
+            loadBoxed( row, value );
+        }
+
+        void materialize( int row, T target ) {
+            if ( mutable == null ) {
+                return;
+            }
+            if ( primitive ) {
+                materializePrimitive( row, target );
+            } else {
+                mutable.setValue( target, getValue( row ) );
+            }
+        }
+
+        boolean isNull( int row ) {
+            return (nulls == null) ? (getValue( row ) == null) : ((nulls[row >>> 6] & (1L << row)) != 0);
+        }
+
+        void grow( int capacity ) {
+            if ( nulls != null ) {
+                nulls = Arrays.copyOf( nulls, words( capacity ) );
+            }
+            growValues( capacity );
+        }
+
+        Object getValue( int row ) {
+            return ((nulls != null) && ((nulls[row >>> 6] & (1L << row)) != 0)) ? null : getBoxed( row );
+        }
+
+        abstract void loadPrimitive( int row, T instance );
+
+        abstract void loadBoxed( int row, Object value );
+
+        abstract void materializePrimitive( int row, T target );
+
+        abstract Object getBoxed( int row );
+
+        abstract void growValues( int capacity );
+
+        private static int words( int capacity ) {
+            return (capacity + 63) >>> 6;
+        }
+    }
+
+    private static final class IntColumn<T> extends Column<T> {
+        int[] values;
+
+        IntColumn( Accessor<T, ?> accessor, int capacity ) {
+            super( accessor, capacity, true );
+            values = new int[capacity];
+        }
+
+        @Override
+        void loadPrimitive( int row, T instance ) {
+            values[row] = Cast.<IntAccessor<T>>it( accessor ).getInt( instance );
+        }
+
+        @Override
+        void loadBoxed( int row, Object value ) {
+            values[row] = (Integer)value;
+        }
+
+        @Override
+        void materializePrimitive( int row, T target ) {
+            Cast.<IntAccessor<T>>it( accessor ).setInt( target, values[row] );
+        }
+
+        @Override
+        Object getBoxed( int row ) {
+            return values[row];
+        }
+
+        @Override
+        void growValues( int capacity ) {
+            values = Arrays.copyOf( values, capacity );
+        }
+    }
+
+    private static final class LongColumn<T> extends Column<T> {
+        long[] values;
+
+        LongColumn( Accessor<T, ?> accessor, int capacity ) {
+            super( accessor, capacity, true );
+            values = new long[capacity];
+        }
+
+        @Override
+        void loadPrimitive( int row, T instance ) {
+            values[row] = Cast.<LongAccessor<T>>it( accessor ).getLong( instance );
+        }
+
+        @Override
+        void loadBoxed( int row, Object value ) {
+            values[row] = (Long)value;
+        }
+
+        @Override
+        void materializePrimitive( int row, T target ) {
+            Cast.<LongAccessor<T>>it( accessor ).setLong( target, values[row] );
+        }
+
+        @Override
+        Object getBoxed( int row ) {
+            return values[row];
+        }
+
+        @Override
+        void growValues( int capacity ) {
+            values = Arrays.copyOf( values, capacity );
+        }
+    }
+
+    private static final class DoubleColumn<T> extends Column<T> {
+        double[] values;
+
+        DoubleColumn( Accessor<T, ?> accessor, int capacity ) {
+            super( accessor, capacity, true );
+            values = new double[capacity];
+        }
+
+        @Override
+        void loadPrimitive( int row, T instance ) {
+            values[row] = Cast.<DoubleAccessor<T>>it( accessor ).getDouble( instance );
+        }
+
+        @Override
+        void loadBoxed( int row, Object value ) {
+            values[row] = (Double)value;
+        }
+
+        @Override
+        void materializePrimitive( int row, T target ) {
+            Cast.<DoubleAccessor<T>>it( accessor ).setDouble( target, values[row] );
+        }
+
+        @Override
+        Object getBoxed( int row ) {
+            return values[row];
+        }
+
+        @Override
+        void growValues( int capacity ) {
+            values = Arrays.copyOf( values, capacity );
+        }
+    }
+
+    private static final class BooleanColumn<T> extends Column<T> {
+        boolean[] values;
+
+        BooleanColumn( Accessor<T, ?> accessor, int capacity ) {
+            super( accessor, capacity, true );
+            values = new boolean[capacity];
+        }
+
+        @Override
+        void loadPrimitive( int row, T instance ) {
+            values[row] = Cast.<BooleanAccessor<T>>it( accessor ).getBoolean( instance );
+        }
+
+        @Override
+        void loadBoxed( int row, Object value ) {
+            values[row] = (Boolean)value;
+        }
+
+        @Override
+        void materializePrimitive( int row, T target ) {
+            Cast.<BooleanAccessor<T>>it( accessor ).setBoolean( target, values[row] );
+        }
+
+        @Override
+        Object getBoxed( int row ) {
+            return values[row];
+        }
+
+        @Override
+        void growValues( int capacity ) {
+            values = Arrays.copyOf( values, capacity );
+        }
+    }
+
+    private static final class ObjectColumn<T> extends Column<T> {
+        Object[] values;
+
+        ObjectColumn( Accessor<T, ?> accessor, int capacity ) {
+            super( accessor, capacity, false );
+            values = new Object[capacity];
+        }
+
+        @Override
+        void loadPrimitive( int row, T instance ) {
+            throw new Error( "Object column for primitive field: " + accessor.getName() );
+        }
+
+        @Override
+        void loadBoxed( int row, Object value ) {
+            values[row] = value;
+        }
+
+        @Override
+        void materializePrimitive( int row, T target ) {
+            throw new Error( "Object column for primitive field: " + accessor.getName() );
+        }
+
+        @Override
+        Object getBoxed( int row ) {
+            return values[row];
+        }
+
+        @Override
+        void growValues( int capacity ) {
+            values = Arrays.copyOf( values, capacity );
+        }
+    }
+}
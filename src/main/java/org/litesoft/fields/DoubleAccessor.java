@@ -0,0 +1,56 @@
+package org.litesoft.fields;
+
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+public class DoubleAccessor<T> extends PrimitiveAccessor<T, Double> {
+    /**
+     * @return a read only (not mutable) DoubleAccessor
+     */
+    public static <T> DoubleAccessor<T> of( AccessorType accessorType, String name, ToDoubleFunction<T> getter ) {
+        return new DoubleAccessor<>( accessorType, name, getter, null );
+    }
+
+    public static <T> DoubleAccessor<T> of( AccessorType accessorType, String name, ToDoubleFunction<T> getter, ObjDoubleConsumer<T> setter ) {
+        return new DoubleAccessor<>( accessorType, name, getter, setter );
+    }
+
+    private final ToDoubleFunction<T> getter;
+    private final ObjDoubleConsumer<T> setter;
+
+    private DoubleAccessor( AccessorType accessorType, String name, ToDoubleFunction<T> getter, ObjDoubleConsumer<T> setter ) {
+        super( accessorType, name, getter::applyAsDouble, (setter == null) ? null : setter::accept, double.class );
+        this.getter = getter;
+        this.setter = (setter != null) ? setter : ( instance, value ) -> {
+            throw readOnlyError();
+        };
+    }
+
+    public double getDouble( T instance ) {
+        return getter.applyAsDouble( instance );
+    }
+
+    public void setDouble( T instance, double value ) {
+        setter.accept( instance, value );
+    }
+
+    @Override
+    public int hashValue( T instance ) {
+        return Double.hashCode( getDouble( instance ) );
+    }
+
+    @Override
+    public boolean equalValues( T us, T them ) { // same semantics as Double.equals (NaN == NaN & 0.0 != -0.0)
+        return Double.doubleToLongBits( getDouble( us ) ) == Double.doubleToLongBits( getDouble( them ) );
+    }
+
+    @Override
+    public void copyValue( T to, T from ) {
+        setDouble( to, getDouble( from ) );
+    }
+
+    @Override
+    public ToStringBuilder addValueTo( ToStringBuilder builder, T instance ) {
+        return builder.add( getName(), getDouble( instance ) );
+    }
+}
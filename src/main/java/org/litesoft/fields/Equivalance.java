@@ -1,26 +1,65 @@
 package org.litesoft.fields;
 
-import java.util.List;
-import java.util.Objects;
-
-import org.litesoft.utils.HashCode;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
 
 @SuppressWarnings("unused")
 public class Equivalance {
+    /**
+     * Bound (to a closed <code>FieldAccessors</code> and a starting index) hash & equals, reusable without any per call allocation.
+     */
+    public static final class Equivalence<T> implements ToIntFunction<T>, BiPredicate<T, T> {
+        private final Accessor<T, ?>[] accessors;
+        private final int fromFasIndex;
+
+        private Equivalence( Accessor<T, ?>[] accessors, int fromFasIndex ) {
+            this.accessors = accessors;
+            this.fromFasIndex = fromFasIndex;
+        }
+
+        public int hash( T us ) {
+            return Equivalance.hash( us, accessors, fromFasIndex );
+        }
+
+        public boolean equal( T us, T them ) {
+            return equal( sameTypes( us, them ), us, them );
+        }
+
+        public boolean equal( boolean sameTypes, T us, T them ) {
+            return Equivalance.equal( sameTypes, us, them, accessors, fromFasIndex );
+        }
+
+        @Override
+        public int applyAsInt( T us ) {
+            return hash( us );
+        }
+
+        @Override
+        public boolean test( T us, T them ) {
+            return equal( us, them );
+        }
+    }
+
+    public static <T> Equivalence<T> bind( FieldAccessors<T> fas ) {
+        return bind( fas, 0 );
+    }
+
+    public static <T> Equivalence<T> bind( FieldAccessors<T> fas, int fromFasIndex ) {
+        if ( !fas.isDone() ) {
+            throw new Error( FieldAccessors.ERROR_NOT_DONE );
+        }
+        if ( (fromFasIndex < 0) || (fas.getFieldCount() < fromFasIndex) ) {
+            throw new Error( "fromFasIndex (" + fromFasIndex + ") not in the range 0-" + fas.getFieldCount() );
+        }
+        return new Equivalence<>( fas.accessors(), fromFasIndex );
+    }
+
     public static <T> int absoluteHash( T us, FieldAccessors<T> fas ) {
         return mostlyHash( us, fas, 0 );
     }
 
     public static <T> int mostlyHash( T us, FieldAccessors<T> fas, int fromFasIndex ) {
-        HashCode.Builder hb = HashCode.from( 0 );
-        if ( us != null ) {
-            List<Accessor<T, ?>> all = fas.getAll();
-            for ( int i = fromFasIndex; i < all.size(); i++ ) {
-                Accessor<T, ?> accessor = all.get( i );
-                hb = hb.and( accessor.getValue( us ) );
-            }
-        }
-        return hb.toHashCode();
+        return hash( us, fas.accessors(), fromFasIndex );
     }
 
     public static <T> boolean sameTypes( T us, T them ) {
@@ -43,13 +82,25 @@ public class Equivalance {
     }
 
     public static <T> boolean mostly( boolean sameTypes, T us, T them, FieldAccessors<T> fas, int fromFasIndex ) {
+        return equal( sameTypes, us, them, fas.accessors(), fromFasIndex );
+    }
+
+    private static <T> int hash( T us, Accessor<T, ?>[] accessors, int fromFasIndex ) {
+        int hash = 0;
+        if ( us != null ) {
+            for ( int i = fromFasIndex; i < accessors.length; i++ ) {
+                hash = 31 * hash + accessors[i].hashValue( us );
+            }
+        }
+        return hash;
+    }
+
+    private static <T> boolean equal( boolean sameTypes, T us, T them, Accessor<T, ?>[] accessors, int fromFasIndex ) {
         if ( !sameTypes || (us == null) || (them == null) ) { // Note: for this situation (null != null)!
             return false;
         }
-        List<Accessor<T, ?>> all = fas.getAll();
-        for ( int i = fromFasIndex; i < all.size(); i++ ) {
-            Accessor<T, ?> accessor = all.get( i );
-            if ( !Objects.equals( accessor.getValue( us ), accessor.getValue( them ) ) ) {
+        for ( int i = fromFasIndex; i < accessors.length; i++ ) {
+            if ( !accessors[i].equalValues( us, them ) ) {
                 return false;
             }
         }
@@ -2,20 +2,27 @@ package org.litesoft.fields;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import org.litesoft.annotations.NotNull;
 import org.litesoft.annotations.Significant;
 import org.litesoft.utils.Cast;
 import org.litesoft.utils.TemplatedMessage;
-import org.litesoft.utils.TemplatedMessageException;
 
 public class FieldAccessors<T> {
     static final String ERROR_ALREADY_DONE = "FieldAccessors already closed, w/ previous done()";
@@ -25,6 +32,15 @@ public class FieldAccessors<T> {
     static final String ERROR_NO_LAST_ACCESSOR_PREFIX = "No Accessors added, but attempted to augment with: ";
     static final String ERROR_ACCESSOR_NOT_FOUND_PREFIX = "No Accessor with name of: ";
     static final String ERROR_ACCESSOR_NOT_MUTABLE_PREFIX = "Accessor Read Only with name of: ";
+    static final String ERROR_NOT_DONE = "FieldAccessors not yet closed, w/ done()";
+    static final String ERROR_ORDINAL_OUT_OF_RANGE_PREFIX = "No Accessor with ordinal of: ";
+    static final String ERROR_INVALID_MAX_ERRORS_PREFIX = "maxErrors must be at least 1, but was: ";
+    static final String ERROR_DIFF_NULL = "Attempt to diff a null instance";
+    static final String ERROR_APPLY_NULL = "Attempt to apply a patch to a null instance";
+    static final String ERROR_TRACK_NULL = "Attempt to track a null instance";
+    static final String ERROR_POPULATE_LENGTHS_PREFIX = "populateAll array lengths differ: ";
+    static final long FNV1A_OFFSET_BASIS = 0xcbf29ce484222325L;
+    static final long FNV1A_PRIME = 0x100000001b3L;
 
     final LinkedHashMap<String, Accessor<T, ?>> fas = new LinkedHashMap<>(); // LinkedHashMap to force consistent ordering (add order)!
     final LinkedHashMap<String, MutableAccessor<T, ?>> mutables = new LinkedHashMap<>(); // LinkedHashMap to force consistent ordering (add order)!
@@ -35,6 +51,10 @@ public class FieldAccessors<T> {
     private boolean validatorLastAdded;
     private boolean valueGeneratorLastAdded;
     private boolean done;
+    private volatile FrozenFieldAccessors<T> frozen; // created by done(), volatile so a done() FieldAccessors is safely shared however it is published
+    private volatile FieldMetrics metrics; // null (the default) -> un-instrumented validation
+    private volatile String description; // toString(), cached once done
+    private volatile long schemaFingerprint; // cached once done, 0 -> not yet computed
 
     public static <T> FieldAccessors<T> of( Class<T> type ) {
         return new FieldAccessors<>( type );
@@ -51,21 +71,89 @@ public class FieldAccessors<T> {
         validatorLastAdded = false;
         valueGeneratorLastAdded = false;
         done = true;
+        for ( Accessor<T, ?> accessor : fas.values() ) {
+            accessor.freeze();
+        }
+        frozen = new FrozenFieldAccessors<>( fas.values(), mutables.values(), validators, valueGenerators );
+        return this;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Instrument validation (each Accessor, Validator, and ValueGenerator step is timed and reported), or null (the default) to stop;
+     * may be set (or cleared) at any time, nothing being timed while null.
+     */
+    public FieldAccessors<T> setMetrics( FieldMetrics metrics ) {
+        this.metrics = metrics;
         return this;
     }
 
+    public FieldMetrics getMetrics() {
+        return metrics;
+    }
+
     public List<Accessor<T, ?>> getAll() {
         return new ArrayList<>( fas.values() );
     }
 
+    /**
+     * Streams the field values into the hash (same result as <code>Arrays.hashCode</code> of the values) without materializing them.
+     */
     public int hashCodeFrom( T instance ) {
-        return instance == null ? 0 : Arrays.hashCode( getValuesFrom( instance ) );
+        if ( instance == null ) {
+            return 0;
+        }
+        int result = 1;
+        for ( Accessor<T, ?> accessor : accessors() ) {
+            result = 31 * result + accessor.hashValue( instance );
+        }
+        return result;
     }
 
     public void populateUs( T us, T from ) {
         if ( (us != null) && (from != null) ) {
-            for ( MutableAccessor<T, ?> accessor : mutables.values() ) {
-                accessor.setValue( us, Cast.it( accessor.getValue( from ) ) );
+            for ( MutableAccessor<T, ?> accessor : mutables() ) {
+                accessor.copyValue( us, from );
+            }
+        }
+    }
+
+    /**
+     * Populate <code>us</code> from <code>from</code>, but only set the fields whose values differ.
+     *
+     * @return the number of fields set
+     */
+    public int populateUsChanged( T us, T from ) {
+        int changed = 0;
+        if ( (us != null) && (from != null) ) {
+            for ( MutableAccessor<T, ?> accessor : mutables() ) {
+                if ( accessor.copyValueIfChanged( us, from ) ) {
+                    changed++;
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Populate each of <code>us</code> from the <code>from</code> at the same index (pairs with either being null are skipped).
+     * <p>
+     * The copy is done a field at a time across all the instances, so each field's getter / setter stays monomorphic in the inner loop.
+     */
+    public void populateAll( T[] us, T[] from ) {
+        if ( us.length != from.length ) {
+            throw new Error( ERROR_POPULATE_LENGTHS_PREFIX + us.length + " vs " + from.length );
+        }
+        for ( MutableAccessor<T, ?> accessor : mutables() ) {
+            for ( int i = 0; i < us.length; i++ ) {
+                T to = us[i];
+                T source = from[i];
+                if ( (to != null) && (source != null) ) {
+                    accessor.copyValue( to, source );
+                }
             }
         }
     }
@@ -77,7 +165,7 @@ public class FieldAccessors<T> {
         if ( (us == null) || (them == null) || (type != us.getClass()) || (type != them.getClass()) ) {
             return false;
         }
-        return Arrays.equals( getValuesFrom( us ), getValuesFrom( Cast.it( them ) ) );
+        return equalValues( us, Cast.it( them ) );
     }
 
     public boolean equalInstancesWithSubTypes( T us, Object them ) {
@@ -87,43 +175,201 @@ public class FieldAccessors<T> {
         if ( !type.isInstance( us ) || !type.isInstance( them ) ) {
             return false;
         }
-        return Arrays.equals( getValuesFrom( us ), getValuesFrom( Cast.it( them ) ) );
+        return equalValues( us, Cast.it( them ) );
     }
 
     public List<FieldError> validate( T us ) {
+        return validate( us, Integer.MAX_VALUE );
+    }
+
+    /**
+     * Validate, stopping at the first error (the returned list will have at most one entry).
+     */
+    public List<FieldError> validateFailFast( T us ) {
+        return validate( us, 1 );
+    }
+
+    /**
+     * Validate, stopping once <code>maxErrors</code> errors have been collected.
+     * <p>
+     * Note: as with <code>validate( us )</code>, the ValueGenerators are only run when there are no errors.
+     */
+    public List<FieldError> validate( T us, int maxErrors ) {
+        if ( maxErrors < 1 ) {
+            throw new Error( ERROR_INVALID_MAX_ERRORS_PREFIX + maxErrors );
+        }
         if ( us == null ) {
             return null;
         }
-        ErrorsCollector collector = new ErrorsCollector( us );
-        fas.values().forEach( a -> collector.process( a.getName(), a::validate ) );
-        validators.forEach( v -> collector.process( v.getName(), v::validate ) );
-        if (collector.errors.isEmpty()) {
-            valueGenerators.forEach( g -> collector.process( g.getName(), g::generateValue ) );
-        }
+        ErrorsCollector collector = new ErrorsCollector( maxErrors );
+        validate( us, collector );
         return collector.done();
     }
 
-    private class ErrorsCollector {
-        private final List<FieldError> errors = new ArrayList<>();
-        private final T us;
-
-        public ErrorsCollector( T us ) {
-            this.us = us;
+    /**
+     * Validate (including running the ValueGenerators when valid), without any allocation when valid, and stopping at the first error
+     * (unless metrics are set, or a JFR recording has the <code>ValidationEvent</code> enabled).
+     *
+     * @return true if valid, false if not valid or null
+     */
+    public boolean isValid( T us ) {
+        return (us != null) && validate( us, null );
+    }
+
+    /**
+     * Validate each instance (sequentially), returning only the errors of the invalid instances (in index order).
+     */
+    public List<IndexedErrors> validateAll( List<T> instances ) {
+        return validateAll( instances.spliterator(), false );
+    }
+
+    /**
+     * Validate each instance on the common ForkJoinPool, returning only the errors of the invalid instances (in index order).
+     * <p>
+     * Each instance is validated by a single thread, so an instance must NOT be in the list more than once.
+     */
+    public List<IndexedErrors> validateAllParallel( List<T> instances ) {
+        return validateAll( instances.spliterator(), true );
+    }
+
+    /**
+     * Validate each instance in chunks on the <code>executor</code>, returning only the errors of the invalid instances (in index order).
+     * <p>
+     * Each instance is validated by a single thread, so an instance must NOT be in the list more than once.
+     */
+    public List<IndexedErrors> validateAll( List<T> instances, Executor executor ) {
+        return new BatchValidator<>( this ).validate( instances, executor );
+    }
+
+    /**
+     * Validate each instance (in parallel if the stream is parallel), returning only the errors of the invalid instances (in encounter index order).
+     */
+    public List<IndexedErrors> validateAll( Stream<T> instances ) {
+        return validateAll( instances.spliterator(), instances.isParallel() );
+    }
+
+    /**
+     * Validate each instance, returning only the errors of the invalid instances (in encounter index order).
+     * <p>
+     * Parallel validation (on the common ForkJoinPool) only splits the <code>instances</code> when the splits' exact sizes are known (SUBSIZED).
+     */
+    public List<IndexedErrors> validateAll( Spliterator<T> instances, boolean parallel ) {
+        return new BatchValidator<>( this ).validate( instances, parallel );
+    }
+
+    /**
+     * Core of validation, each Accessor, then each Validator, and then (if no errors) each ValueGenerator.
+     * <p>
+     * The Accessors and Validators report into the sink (no exceptions thrown for the built-in problems), only the ValueGenerators are exception based.
+     * Each validation is a JFR <code>ValidationEvent</code> (when enabled, otherwise no event is created).
+     *
+     * @param collector null indicates stop on the first error, without collecting it
+     * @return true if no errors
+     */
+    private boolean validate( T us, ErrorsCollector collector ) {
+        if ( !ValidationEvent.enabled() ) {
+            return validateSteps( us, collector );
+        }
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        boolean valid = false;
+        boolean completed = false;
+        try {
+            valid = validateSteps( us, collector );
+            completed = true;
+            return valid;
+        }
+        finally {
+            event.end();
+            if ( event.shouldCommit() ) {
+                int errors = (collector != null) ? collector.errorCount() : (valid ? 0 : 1);
+                event.typeName = type.getName();
+                event.fieldCount = accessors().length;
+                event.errorCount = completed ? errors : Math.max( 1, errors ); // not completed -> an Error escaped (step RuntimeExceptions are all collected)
+                event.commit();
+            }
         }
+    }
 
-        public void process( String name, Consumer<T> validator ) {
-            TemplatedMessage tm;
-            try {
-                validator.accept( us );
-                return;
+    /**
+     * When <code>metrics</code> are set (snapshot once per validation), each step is also timed and reported.
+     */
+    private boolean validateSteps( T us, ErrorsCollector collector ) {
+        FieldMetrics metrics = this.metrics;
+        FieldErrorSink sink = (collector == null) ? FieldErrorSink.IGNORE : collector;
+        for ( Accessor<T, ?> accessor : accessors() ) {
+            long start = (metrics == null) ? 0 : System.nanoTime();
+            boolean valid = accessor.validate( us, sink );
+            if ( metrics != null ) {
+                metrics.record( type, FieldMetrics.Step.ACCESSOR, accessor.getName(), System.nanoTime() - start, !valid );
+            }
+            if ( !valid && ((collector == null) || collector.isFull()) ) {
+                return false;
+            }
+        }
+        for ( Validator<T> validator : validators() ) {
+            long start = (metrics == null) ? 0 : System.nanoTime();
+            boolean valid = validator.validate( us, sink );
+            if ( metrics != null ) {
+                metrics.record( type, FieldMetrics.Step.VALIDATOR, validator.getName(), System.nanoTime() - start, !valid );
+            }
+            if ( !valid && ((collector == null) || collector.isFull()) ) {
+                return false;
             }
-            catch ( TemplatedMessageException e ) {
-                tm = e.getTemplatedMessage();
+        }
+        if ( (collector != null) && collector.hasErrors() ) {
+            return false;
+        }
+        for ( ValueGenerator<T> valueGenerator : valueGenerators() ) {
+            long start = (metrics == null) ? 0 : System.nanoTime();
+            RuntimeException problem = null;
+            try {
+                valueGenerator.generateValue( us );
             }
             catch ( RuntimeException e ) {
-                tm = new TemplatedMessage( e.getMessage() );
+                problem = e;
+            }
+            if ( metrics != null ) {
+                metrics.record( type, FieldMetrics.Step.VALUE_GENERATOR, valueGenerator.getName(), System.nanoTime() - start, (problem != null) );
+            }
+            if ( problem != null ) {
+                sink.add( valueGenerator.getName(), problem );
+                if ( (collector == null) || collector.isFull() ) {
+                    return false;
+                }
+            }
+        }
+        return (collector == null) || !collector.hasErrors();
+    }
+
+    private static class ErrorsCollector implements FieldErrorSink {
+        private final List<FieldError> errors = new ArrayList<>();
+        private final int maxErrors;
+
+        public ErrorsCollector( int maxErrors ) {
+            this.maxErrors = maxErrors;
+        }
+
+        @Override
+        public void add( String fieldName, TemplatedMessage templatedMessage ) {
+            if ( !isFull() ) {
+                errors.add( new FieldError( fieldName, templatedMessage ) );
             }
-            errors.add( new FieldError( name, tm ) );
+        }
+
+        /**
+         * @return true if the max errors has been reached (stop validating)
+         */
+        public boolean isFull() {
+            return maxErrors <= errors.size();
+        }
+
+        public boolean hasErrors() {
+            return !errors.isEmpty();
+        }
+
+        public int errorCount() {
+            return errors.size();
         }
 
         public List<FieldError> done() {
@@ -132,11 +378,13 @@ public class FieldAccessors<T> {
     }
 
     public <R> Accessor<T, R> getAccessor( String name ) {
-        return Cast.it( fas.get( name ) );
+        FrozenFieldAccessors<T> frozen = this.frozen;
+        return Cast.it( (frozen != null) ? frozen.accessorFor( name ) : fas.get( name ) );
     }
 
     public <R> MutableAccessor<T, R> getMutableAccessor( String name ) {
-        return Cast.it( mutables.get( name ) );
+        FrozenFieldAccessors<T> frozen = this.frozen;
+        return Cast.it( (frozen != null) ? frozen.mutableFor( name ) : mutables.get( name ) );
     }
 
     public <R> R getValue( T instance, String name ) {
@@ -151,6 +399,100 @@ public class FieldAccessors<T> {
         accessor.asMutable().setValue( instance, value );
     }
 
+    /**
+     * Diff the (mutable) fields of two instances, the patch holding the <code>b</code> values of the differing fields (in add order).
+     *
+     * @return the patch, or (without any allocation) the shared <code>FieldPatch.EMPTY</code> if no fields differ
+     */
+    public FieldPatch diff( T a, T b ) {
+        if ( (a == null) || (b == null) ) {
+            throw new Error( ERROR_DIFF_NULL );
+        }
+        if ( a == b ) {
+            return FieldPatch.EMPTY;
+        }
+        MutableAccessor<T, ?>[] mutables = mutables();
+        String[] fieldNames = null; // created on the first difference
+        Object[] values = null;
+        int count = 0;
+        for ( MutableAccessor<T, ?> accessor : mutables ) {
+            if ( !accessor.equalValues( a, b ) ) {
+                if ( fieldNames == null ) {
+                    fieldNames = new String[mutables.length];
+                    values = new Object[mutables.length];
+                }
+                fieldNames[count] = accessor.getName();
+                values[count++] = accessor.getValue( b );
+            }
+        }
+        if ( count == 0 ) {
+            return FieldPatch.EMPTY;
+        }
+        return (count == mutables.length) ? new FieldPatch( fieldNames, values ) :
+               new FieldPatch( Arrays.copyOf( fieldNames, count ), Arrays.copyOf( values, count ) );
+    }
+
+    /**
+     * Apply the <code>patch</code> (see <code>diff( a, b )</code>) to the <code>target</code>, via the MutableAccessors.
+     */
+    public void apply( T target, FieldPatch patch ) {
+        if ( target == null ) {
+            throw new Error( ERROR_APPLY_NULL );
+        }
+        for ( int i = 0; i < patch.size(); i++ ) {
+            setValue( target, patch.getFieldName( i ), patch.getValue( i ) );
+        }
+    }
+
+    /**
+     * Start dirty tracking the <code>instance</code>, the tracked changes being made thru the returned tracker (requires <code>done()</code>).
+     */
+    public ChangeTracker<T> track( T instance ) {
+        requiredFrozen();
+        if ( instance == null ) {
+            throw new Error( ERROR_TRACK_NULL );
+        }
+        return new ChangeTracker<>( this, instance );
+    }
+
+    /**
+     * @return the number of Accessors (fields), the valid ordinals being 0 thru <code>getFieldCount() - 1</code>
+     */
+    public int getFieldCount() {
+        return fas.size();
+    }
+
+    /**
+     * @return the ordinal (add order index) of the named field or -1 if not found (requires <code>done()</code>)
+     */
+    public int getOrdinal( String name ) {
+        return requiredFrozen().ordinalOf( name );
+    }
+
+    /**
+     * @return the ordinal of the field named by <code>chars</code> from <code>start</code> (inclusive) to <code>end</code> (exclusive) or -1 if not found
+     * (requires <code>done()</code>)
+     */
+    int getOrdinal( CharSequence chars, int start, int end ) {
+        return requiredFrozen().nameTable.ordinalOf( chars, start, end );
+    }
+
+    public <R> Accessor<T, R> getAccessor( int ordinal ) {
+        return Cast.it( requiredFrozen().accessors[checkOrdinal( ordinal )] );
+    }
+
+    public <R> R getValue( T instance, int ordinal ) {
+        return Cast.it( requiredFrozen().accessors[checkOrdinal( ordinal )].getValue( instance ) );
+    }
+
+    public <R> void setValue( T instance, int ordinal, R value ) {
+        MutableAccessor<T, R> mutable = Cast.it( requiredFrozen().mutablesByOrdinal[checkOrdinal( ordinal )] );
+        if ( mutable == null ) {
+            throw new Error( ERROR_ACCESSOR_NOT_MUTABLE_PREFIX + frozen.accessors[ordinal].getName() );
+        }
+        mutable.setValue( instance, value );
+    }
+
     public FieldAccessors<T> addValidator( String validatorName, String errorMsg, Predicate<T> checkTrueIsError ) {
         return addValidator( validatorName, checkTrueIsError, Significant.AssertArgument.namedValue( "errorMsg", errorMsg ) );
     }
@@ -158,10 +500,13 @@ public class FieldAccessors<T> {
     public FieldAccessors<T> addValidator( String validatorName, Predicate<T> checkTrueIsError, String fmtString, String... indexedFmtData ) {
         NotNull.AssertArgument.namedValue( "checkTrueIsError", checkTrueIsError );
         String fmtStringNormalized = Significant.AssertArgument.namedValue( "fmtString", fmtString );
-        return addValidator( validatorName, t -> {
+        String name = Significant.AssertArgument.namedValue( "name", validatorName );
+        return addReportingValidator( name, ( t, sink ) -> {
             if ( checkTrueIsError.test( t ) ) {
-                throw new TemplatedMessageException( fmtStringNormalized, indexedFmtData );
+                sink.add( name, fmtStringNormalized, indexedFmtData );
+                return false;
             }
+            return true;
         } );
     }
 
@@ -169,7 +514,17 @@ public class FieldAccessors<T> {
         return addValidator( new Validator<>( validatorName, validator ) );
     }
 
+    /**
+     * Add a reporting (non-throwing) Validator, see <code>Validator.Reporter</code>.
+     */
+    public FieldAccessors<T> addReportingValidator( String validatorName, Validator.Reporter<T> reporter ) {
+        return addValidator( Validator.reporting( validatorName, reporter ) );
+    }
+
     public FieldAccessors<T> addValidator( Validator<T> validator ) {
+        if ( done ) {
+            throw new Error( ERROR_ALREADY_DONE );
+        }
         validators.add( NotNull.AssertArgument.namedValue( "validator", validator ) );
         validatorLastAdded = true;
         valueGeneratorLastAdded = false;
@@ -183,6 +538,9 @@ public class FieldAccessors<T> {
     }
 
     public FieldAccessors<T> addValueGenerator( ValueGenerator<T> valueGenerator ) {
+        if ( done ) {
+            throw new Error( ERROR_ALREADY_DONE );
+        }
         valueGenerators.add( NotNull.AssertArgument.namedValue( "valueGenerator", valueGenerator ) );
         valueGeneratorLastAdded = true;
         validatorLastAdded = false;
@@ -226,6 +584,70 @@ public class FieldAccessors<T> {
         return add( MutableAccessor.of( AccessorType.optional, name, accessor, setter ) );
     }
 
+    public FieldAccessors<T> requiredInt( String name, ToIntFunction<T> getter ) {
+        return add( IntAccessor.of( AccessorType.required, name, getter ) );
+    }
+
+    public FieldAccessors<T> requiredInt( String name, ToIntFunction<T> getter, ObjIntConsumer<T> setter ) {
+        return add( IntAccessor.of( AccessorType.required, name, getter, setter ) );
+    }
+
+    public FieldAccessors<T> optionalInt( String name, ToIntFunction<T> getter ) {
+        return add( IntAccessor.of( AccessorType.optional, name, getter ) );
+    }
+
+    public FieldAccessors<T> optionalInt( String name, ToIntFunction<T> getter, ObjIntConsumer<T> setter ) {
+        return add( IntAccessor.of( AccessorType.optional, name, getter, setter ) );
+    }
+
+    public FieldAccessors<T> requiredLong( String name, ToLongFunction<T> getter ) {
+        return add( LongAccessor.of( AccessorType.required, name, getter ) );
+    }
+
+    public FieldAccessors<T> requiredLong( String name, ToLongFunction<T> getter, ObjLongConsumer<T> setter ) {
+        return add( LongAccessor.of( AccessorType.required, name, getter, setter ) );
+    }
+
+    public FieldAccessors<T> optionalLong( String name, ToLongFunction<T> getter ) {
+        return add( LongAccessor.of( AccessorType.optional, name, getter ) );
+    }
+
+    public FieldAccessors<T> optionalLong( String name, ToLongFunction<T> getter, ObjLongConsumer<T> setter ) {
+        return add( LongAccessor.of( AccessorType.optional, name, getter, setter ) );
+    }
+
+    public FieldAccessors<T> requiredDouble( String name, ToDoubleFunction<T> getter ) {
+        return add( DoubleAccessor.of( AccessorType.required, name, getter ) );
+    }
+
+    public FieldAccessors<T> requiredDouble( String name, ToDoubleFunction<T> getter, ObjDoubleConsumer<T> setter ) {
+        return add( DoubleAccessor.of( AccessorType.required, name, getter, setter ) );
+    }
+
+    public FieldAccessors<T> optionalDouble( String name, ToDoubleFunction<T> getter ) {
+        return add( DoubleAccessor.of( AccessorType.optional, name, getter ) );
+    }
+
+    public FieldAccessors<T> optionalDouble( String name, ToDoubleFunction<T> getter, ObjDoubleConsumer<T> setter ) {
+        return add( DoubleAccessor.of( AccessorType.optional, name, getter, setter ) );
+    }
+
+    public FieldAccessors<T> requiredBoolean( String name, Predicate<T> getter ) {
+        return add( BooleanAccessor.of( AccessorType.required, name, getter ) );
+    }
+
+    public FieldAccessors<T> requiredBoolean( String name, Predicate<T> getter, BooleanAccessor.ObjBooleanConsumer<T> setter ) {
+        return add( BooleanAccessor.of( AccessorType.required, name, getter, setter ) );
+    }
+
+    public FieldAccessors<T> optionalBoolean( String name, Predicate<T> getter ) {
+        return add( BooleanAccessor.of( AccessorType.optional, name, getter ) );
+    }
+
+    public FieldAccessors<T> optionalBoolean( String name, Predicate<T> getter, BooleanAccessor.ObjBooleanConsumer<T> setter ) {
+        return add( BooleanAccessor.of( AccessorType.optional, name, getter, setter ) );
+    }
+
     public FieldAccessors<T> addMaxLength( int maxLength ) {
         augmentLastAccessor().addMaxLength( maxLength );
         return this;
@@ -261,8 +683,60 @@ public class FieldAccessors<T> {
         return this;
     }
 
+    public <R> FieldAccessors<T> withReportingType( Class<R> type, Accessor.Reporter<R> reporter ) {
+        augmentLastAccessor().withReportingType( type, reporter );
+        return this;
+    }
+
+    public <R> FieldAccessors<T> withReportingType( Class<R> type, UnaryOperator<R> normalizer, Accessor.Reporter<R> reporter ) {
+        augmentLastAccessor().asMutable().withReportingType( type, normalizer, reporter );
+        return this;
+    }
+
+    /**
+     * @return the 64-bit FNV-1a hash of each field's (in add order) name, type, max length, metadata, AccessorType, and mutability
+     * (for cache keys & schema versioning), computed once
+     */
+    public long getSchemaFingerprint() {
+        long fingerprint = schemaFingerprint;
+        if ( fingerprint == 0 ) {
+            long hash = FNV1A_OFFSET_BASIS;
+            for ( Accessor<T, ?> accessor : requiredFrozen().accessors ) {
+                Class<?> type = accessor.getType();
+                hash = fnv1a( hash, accessor.getName() + ':' + ((type == null) ? "" : type.getName()) + ':' + accessor.getMaxLength() + ':'
+                                    + accessor.getMetaData() + ':' + accessor.getAccessorType() + ':' + accessor.isMutable() + ';' );
+            }
+            schemaFingerprint = fingerprint = hash;
+        }
+        return fingerprint;
+    }
+
+    /**
+     * @return the 64-bit FNV-1a <code>hash</code> continued over the <code>text</code>'s chars
+     */
+    static long fnv1a( long hash, CharSequence text ) {
+        for ( int c = 0; c < text.length(); c++ ) {
+            hash = (hash ^ text.charAt( c )) * FNV1A_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * @return the (padded) description of each field, one per line; once done, it is only built once
+     */
     public String toString() {
-        List<Accessor<T, ?>> all = getAll();
+        String description = this.description;
+        if ( description == null ) {
+            description = buildDescription();
+            if ( done ) {
+                this.description = description;
+            }
+        }
+        return description;
+    }
+
+    private String buildDescription() {
+        Accessor<T, ?>[] all = accessors();
         int maxNameLen = 0;
         int maxTypeLen = 0;
         for ( Accessor<T, ?> fa : all ) {
@@ -291,14 +765,54 @@ public class FieldAccessors<T> {
         return accessor;
     }
 
-    private Object[] getValuesFrom( T instance ) {
-        Collection<Accessor<T, ?>> accessors = fas.values();
-        Object[] rv = new Object[accessors.size()];
-        int i = 0;
-        for ( Accessor<T, ?> accessor : accessors ) {
-            rv[i++] = accessor.getValue( instance );
+    private FrozenFieldAccessors<T> requiredFrozen() {
+        FrozenFieldAccessors<T> frozen = this.frozen;
+        if ( frozen == null ) {
+            throw new Error( ERROR_NOT_DONE );
+        }
+        return frozen;
+    }
+
+    private int checkOrdinal( int ordinal ) {
+        if ( (ordinal < 0) || (frozen.accessors.length <= ordinal) ) {
+            throw new Error( ERROR_ORDINAL_OUT_OF_RANGE_PREFIX + ordinal );
+        }
+        return ordinal;
+    }
+
+    /**
+     * @return the Accessors in add (ordinal) order; once <code>done()</code> the frozen array (do NOT modify), before a fresh copy
+     */
+    Accessor<T, ?>[] accessors() {
+        FrozenFieldAccessors<T> frozen = this.frozen;
+        return (frozen != null) ? frozen.accessors : Cast.it( fas.values().toArray( new Accessor<?, ?>[0] ) );
+    }
+
+    MutableAccessor<T, ?>[] mutables() {
+        FrozenFieldAccessors<T> frozen = this.frozen;
+        return (frozen != null) ? frozen.mutables : Cast.it( mutables.values().toArray( new MutableAccessor<?, ?>[0] ) );
+    }
+
+    Validator<T>[] validators() {
+        FrozenFieldAccessors<T> frozen = this.frozen;
+        return (frozen != null) ? frozen.validators : Cast.it( validators.toArray( new Validator<?>[0] ) );
+    }
+
+    ValueGenerator<T>[] valueGenerators() {
+        FrozenFieldAccessors<T> frozen = this.frozen;
+        return (frozen != null) ? frozen.valueGenerators : Cast.it( valueGenerators.toArray( new ValueGenerator<?>[0] ) );
+    }
+
+    /**
+     * Field by field comparison that stops at the first unequal field.
+     */
+    private boolean equalValues( T us, T them ) {
+        for ( Accessor<T, ?> accessor : accessors() ) {
+            if ( !accessor.equalValues( us, them ) ) {
+                return false;
+            }
         }
-        return rv;
+        return true;
     }
 
     private <R> Accessor<T, R> augmentLastAccessor() {
@@ -312,6 +826,9 @@ public class FieldAccessors<T> {
     }
 
     private <R> FieldAccessors<T> add( Accessor<T, R> created ) {
+        if ( done ) {
+            throw new Error( ERROR_ALREADY_DONE );
+        }
         lastAccessor = addRejectNull( created );
         validatorLastAdded = false;
         if ( created.isMutable() ) {
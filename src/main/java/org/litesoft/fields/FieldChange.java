@@ -0,0 +1,7 @@
+package org.litesoft.fields;
+
+/**
+ * A changed field (as captured by a <code>ChangeTracker</code>), with its value before the first tracked change and its current value.
+ */
+public record FieldChange(String fieldName, Object oldValue, Object newValue) {
+}
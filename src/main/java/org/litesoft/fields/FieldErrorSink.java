@@ -0,0 +1,35 @@
+package org.litesoft.fields;
+
+import org.litesoft.utils.TemplatedMessage;
+import org.litesoft.utils.TemplatedMessageException;
+
+/**
+ * Receiver of validation errors, allows validation to report (rather than throw) its problems.
+ */
+@FunctionalInterface
+public interface FieldErrorSink {
+    /**
+     * Sink that ignores the errors (e.g. when only the valid / invalid result matters).
+     */
+    FieldErrorSink IGNORE = ( fieldName, templatedMessage ) -> {
+    };
+
+    void add( String fieldName, TemplatedMessage templatedMessage );
+
+    default void add( String fieldName, String fmtString, String... indexedFmtData ) {
+        add( fieldName, new TemplatedMessage( fmtString, indexedFmtData ) );
+    }
+
+    /**
+     * Adapter for the exception based validation (a <code>TemplatedMessageException</code>'s message is used as is).
+     */
+    default void add( String fieldName, RuntimeException e ) {
+        add( fieldName, templatedMessageFrom( e ) );
+    }
+
+    static TemplatedMessage templatedMessageFrom( RuntimeException e ) {
+        return (e instanceof TemplatedMessageException) ?
+               ((TemplatedMessageException)e).getTemplatedMessage() :
+               new TemplatedMessage( e.getMessage() );
+    }
+}
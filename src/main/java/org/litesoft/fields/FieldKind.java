@@ -0,0 +1,67 @@
+package org.litesoft.fields;
+
+/**
+ * The value kinds (of the fields) supported by the schema driven codecs and stores (e.g. <code>BinaryCodec</code>).
+ * <p>
+ * A field's kind comes from its primitive Accessor (never null), or from its type (see <code>withType</code>) for the boxed / object fields (nullable).
+ */
+enum FieldKind {
+    INT( Integer.class ),
+    LONG( Long.class ),
+    DOUBLE( Double.class ),
+    BOOLEAN( Boolean.class ),
+    STRING( String.class );
+
+    final Class<?> valueType;
+
+    FieldKind( Class<?> valueType ) {
+        this.valueType = valueType;
+    }
+
+    /**
+     * @return the kind of the <code>accessor</code>, or null if not supported
+     */
+    static FieldKind of( Accessor<?, ?> accessor ) {
+        if ( accessor instanceof IntAccessor<?> ) {
+            return INT;
+        }
+        if ( accessor instanceof LongAccessor<?> ) {
+            return LONG;
+        }
+        if ( accessor instanceof DoubleAccessor<?> ) {
+            return DOUBLE;
+        }
+        if ( accessor instanceof BooleanAccessor<?> ) {
+            return BOOLEAN;
+        }
+        Class<?> type = accessor.getType();
+        for ( FieldKind kind : values() ) {
+            if ( kind.valueType == type ) {
+                return kind;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param user what is using the kind, e.g. "BinaryCodec" (for the Error message)
+     *
+     * @return the kind of the <code>accessor</code>
+     */
+    static FieldKind required( Accessor<?, ?> accessor, String user ) {
+        FieldKind kind = of( accessor );
+        if ( kind == null ) {
+            Class<?> type = accessor.getType();
+            throw new Error( user + " does not support field '" + accessor.getName() + "' of type: " +
+                             ((type == null) ? "(none, see withType)" : type.getSimpleName()) );
+        }
+        return kind;
+    }
+
+    /**
+     * @return true if the <code>accessor</code> is a primitive (unboxed, never null) Accessor
+     */
+    static boolean isPrimitive( Accessor<?, ?> accessor ) {
+        return accessor instanceof PrimitiveAccessor<?, ?>;
+    }
+}
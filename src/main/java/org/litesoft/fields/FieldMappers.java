@@ -1,14 +1,26 @@
 package org.litesoft.fields;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.litesoft.utils.Cast;
 import org.litesoft.utils.TemplatedMessage;
 import org.litesoft.utils.TemplatedMessageException;
 
 public class FieldMappers<TargetT, SourceT> {
+    static final String ERROR_INVALID_MAX_BATCH_PREFIX = "maxBatch must be at least 1, but was: ";
+
     public interface Mapper<TargetT, SourceT> {
         void map( SourceT source, TargetT target );
     }
@@ -24,6 +36,10 @@ public class FieldMappers<TargetT, SourceT> {
     private final Class<SourceT> sourceT;
 
     final LinkedHashMap<String, Mapper<TargetT, SourceT>> mappers = new LinkedHashMap<>(); // LinkedHashMap to force consistent ordering (add order)!
+    private String[] fieldNames = new String[0]; // add order, parallel to mappersInOrder
+    private Mapper<TargetT, SourceT>[] mappersInOrder = Cast.it( new Mapper<?, ?>[0] ); // add order (array form of mappers)
+    private boolean compiled;
+    private volatile FieldMetrics metrics; // null (the default) -> un-instrumented mapping
 
     public static <TargetT, SourceT> FieldMappers<TargetT, SourceT> of( Class<TargetT> targetT, Class<SourceT> sourceT ) {
         return new FieldMappers<>( targetT, sourceT );
@@ -36,37 +52,190 @@ public class FieldMappers<TargetT, SourceT> {
     public void map( TargetT target, SourceT source, Map<String, FieldError> fieldErrors ) {
         assertType( target, targetT, "target instance" );
         assertType( source, sourceT, "source instance" );
-        for ( Map.Entry<String, Mapper<TargetT, SourceT>> entry : mappers.entrySet() ) {
-            TemplatedMessage templatedMessage;
-            RuntimeException rte;
-            Mapper<TargetT, SourceT> mapper = entry.getValue();
-            try {
-                mapper.map( source, target );
-                continue;
+        mapChecked( target, source, fieldErrors );
+    }
+
+    /**
+     * Freeze the mappers (no more may be added), the mapping itself always runs from the (add order) mapper array.
+     */
+    public FieldMappers<TargetT, SourceT> compile() {
+        assertNotCompiled();
+        compiled = true;
+        return this;
+    }
+
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Instrument mapping (each mapper is timed and reported under its field name), or null (the default) to stop;
+     * may be set (or cleared) at any time, nothing being timed while null.
+     */
+    public FieldMappers<TargetT, SourceT> setMetrics( FieldMetrics metrics ) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    public FieldMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Map each source into a new target (from the <code>targetFactory</code>), the instance types being checked once for the batch (the first source & target).
+     *
+     * @return the targets (in source order)
+     */
+    public List<TargetT> mapAll( List<SourceT> sources, Supplier<TargetT> targetFactory ) {
+        assertNotNull( targetFactory, "targetFactory" );
+        List<TargetT> targets = new ArrayList<>( assertNotNull( sources, "sources" ).size() );
+        for ( SourceT source : sources ) {
+            TargetT target = targetFactory.get();
+            if ( targets.isEmpty() ) {
+                assertType( target, targetT, "target instance" );
+                assertType( source, sourceT, "source instance" );
+            } else {
+                assertNotNull( target, "target instance" );
+                assertNotNull( source, "source instance" );
             }
-            catch ( TemplatedMessageException e ) {
-                rte = e;
-                templatedMessage = e.getTemplatedMessage();
+            mapChecked( target, source, null );
+            targets.add( target );
+        }
+        return targets;
+    }
+
+    /**
+     * Map each source into the target at the same index, the instance types being checked once for the batch (the first source & target).
+     */
+    public void mapInto( List<SourceT> sources, List<TargetT> targets ) {
+        int size = assertNotNull( sources, "sources" ).size();
+        if ( size != assertNotNull( targets, "targets" ).size() ) {
+            throw new IllegalStateException( "sources (" + size + ") and targets (" + targets.size() + ") sizes differ" );
+        }
+        for ( int i = 0; i < size; i++ ) {
+            TargetT target = targets.get( i );
+            SourceT source = sources.get( i );
+            if ( i == 0 ) {
+                assertType( target, targetT, "target instance" );
+                assertType( source, sourceT, "source instance" );
+            } else {
+                assertNotNull( target, "target instance" );
+                assertNotNull( source, "source instance" );
+            }
+            mapChecked( target, source, null );
+        }
+    }
+
+    /**
+     * Lazily map each source (as the returned stream is consumed) into a new target (from the <code>targetFactory</code>),
+     * with each row's FieldErrors collected (rather than thrown) as per <code>map( target, source, fieldErrors )</code>.
+     * <p>
+     * The rows are indexed by the sources' encounter order, and when <code>parallel</code>, the encounter order is still respected by ordered terminal operations.
+     * When <code>parallel</code>, the sources are handed to the workers in batches of (up to) 1024.
+     */
+    public Stream<MappedRow<TargetT>> stream( Iterator<SourceT> sources, Supplier<TargetT> targetFactory, boolean parallel ) {
+        return stream( sources, targetFactory, parallel, MappingSpliterator.DEFAULT_MAX_BATCH );
+    }
+
+    /**
+     * See <code>stream( Iterator, Supplier, boolean )</code>, with the (parallel) batches being up to <code>maxBatch</code> sources
+     * (each pulled batch being held in memory until it is mapped).
+     */
+    public Stream<MappedRow<TargetT>> stream( Iterator<SourceT> sources, Supplier<TargetT> targetFactory, boolean parallel, int maxBatch ) {
+        if ( maxBatch < 1 ) {
+            throw new Error( ERROR_INVALID_MAX_BATCH_PREFIX + maxBatch );
+        }
+        Spliterator<SourceT> spliterator = Spliterators.spliteratorUnknownSize( assertNotNull( sources, "sources" ), Spliterator.ORDERED );
+        return StreamSupport.stream( new MappingSpliterator<>( this, assertNotNull( targetFactory, "targetFactory" ), spliterator, maxBatch, 0 ),
+                                     parallel );
+    }
+
+    /**
+     * Lazily map each source (in parallel if the <code>sources</code> stream is parallel), see <code>stream( Iterator, Supplier, boolean )</code>.
+     * <p>
+     * Closing the returned stream closes the <code>sources</code>.
+     */
+    public Stream<MappedRow<TargetT>> stream( Stream<SourceT> sources, Supplier<TargetT> targetFactory ) {
+        Spliterator<SourceT> spliterator = assertNotNull( sources, "sources" ).spliterator();
+        return StreamSupport.stream( new MappingSpliterator<>( this, assertNotNull( targetFactory, "targetFactory" ), spliterator,
+                                                             MappingSpliterator.DEFAULT_MAX_BATCH, 0 ), sources.isParallel() )
+                .onClose( sources::close );
+    }
+
+    /**
+     * Each mapping is a JFR <code>MappingEvent</code> (when enabled, otherwise no event is created).
+     */
+    private void mapChecked( TargetT target, SourceT source, Map<String, FieldError> fieldErrors ) {
+        if ( !MappingEvent.enabled() ) {
+            mapSteps( target, source, fieldErrors );
+            return;
+        }
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        int priorErrors = (fieldErrors == null) ? 0 : fieldErrors.size();
+        boolean completed = false;
+        try {
+            mapSteps( target, source, fieldErrors );
+            completed = true;
+        }
+        finally {
+            event.end();
+            if ( event.shouldCommit() ) {
+                event.typeName = targetT.getName();
+                event.sourceTypeName = sourceT.getName();
+                event.fieldCount = mappersInOrder.length;
+                event.errorCount = !completed ? 1 : (fieldErrors == null) ? 0 : (fieldErrors.size() - priorErrors); // not completed -> a mapper threw
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * When <code>metrics</code> are set (snapshot once per mapping), each mapper is also timed and reported.
+     */
+    private void mapSteps( TargetT target, SourceT source, Map<String, FieldError> fieldErrors ) {
+        FieldMetrics metrics = this.metrics;
+        String[] fieldNames = this.fieldNames; // consistent snapshot
+        Mapper<TargetT, SourceT>[] mappersInOrder = this.mappersInOrder;
+        for ( int i = 0; i < mappersInOrder.length; i++ ) {
+            long start = (metrics == null) ? 0 : System.nanoTime();
+            RuntimeException problem = null;
+            try {
+                mappersInOrder[i].map( source, target );
             }
             catch ( RuntimeException e ) {
-                rte = e;
-                templatedMessage = new TemplatedMessage( e.getMessage() );
+                problem = e;
+            }
+            if ( metrics != null ) {
+                metrics.record( targetT, FieldMetrics.Step.MAPPER, fieldNames[i], System.nanoTime() - start, (problem != null) );
             }
-            if ( fieldErrors == null ) {
-                throw rte;
+            if ( problem != null ) {
+                mapFailed( fieldNames[i], problem, fieldErrors );
             }
-            String fieldName = entry.getKey();
-            fieldErrors.put( fieldName, new FieldError( fieldName, templatedMessage ) );
         }
     }
 
+    /**
+     * @param fieldErrors null indicates rethrow
+     */
+    private static void mapFailed( String fieldName, RuntimeException rte, Map<String, FieldError> fieldErrors ) {
+        if ( fieldErrors == null ) {
+            throw rte;
+        }
+        TemplatedMessage templatedMessage = (rte instanceof TemplatedMessageException tme) ?
+                                            tme.getTemplatedMessage() : new TemplatedMessage( rte.getMessage() );
+        fieldErrors.put( fieldName, new FieldError( fieldName, templatedMessage ) );
+    }
+
     public FieldMappers<TargetT, SourceT> add( String name, FieldAccessors<TargetT> targetFields, FieldAccessors<SourceT> sourceFields ) {
         return add( name, targetFields, name, sourceFields );
     }
 
     public <R> FieldMappers<TargetT, SourceT> add( String targetName, FieldAccessors<TargetT> targetFields, String sourceName, FieldAccessors<SourceT> sourceFields ) {
         Accessor<SourceT, R> getter = extractAccessor( sourceName, sourceFields );
-        return add( targetName, targetFields, getter );
+        MutableAccessor<TargetT, R> setter = extractMutableAccessor( targetName, targetFields );
+        Mapper<TargetT, SourceT> primitiveMapper = primitiveMapper( setter, getter );
+        return (primitiveMapper != null) ? add( targetName, primitiveMapper ) : add( setter, getter );
     }
 
     public <R> FieldMappers<TargetT, SourceT> add( String name, FieldAccessors<TargetT> targetFields, Function<SourceT, R> getter ) {
@@ -101,10 +270,17 @@ public class FieldMappers<TargetT, SourceT> {
     }
 
     public FieldMappers<TargetT, SourceT> add( String fieldName, Mapper<TargetT, SourceT> mapper ) {
+        assertNotCompiled();
         Mapper<TargetT, SourceT> prev = mappers.put( fieldName, assertNotNull( mapper, "mapper" ) );
         if ( prev != null ) {
             throw new Error( "Attempt to register a duplicate field of: " + fieldName );
         }
+        String[] updatedNames = Arrays.copyOf( fieldNames, fieldNames.length + 1 );
+        Mapper<TargetT, SourceT>[] updatedMappers = Arrays.copyOf( mappersInOrder, mappersInOrder.length + 1 );
+        updatedNames[fieldNames.length] = fieldName;
+        updatedMappers[mappersInOrder.length] = mapper;
+        fieldNames = updatedNames;
+        mappersInOrder = updatedMappers;
         return this;
     }
 
@@ -129,6 +305,39 @@ public class FieldMappers<TargetT, SourceT> {
         return accessor;
     }
 
+    /**
+     * @return an unboxed Mapper if both the <code>setter</code> and the <code>getter</code> are the same kind of primitive Accessor, otherwise null
+     */
+    private static <TargetT, SourceT> Mapper<TargetT, SourceT> primitiveMapper( MutableAccessor<TargetT, ?> setter, Accessor<SourceT, ?> getter ) {
+        if ( (setter instanceof IntAccessor<?>) && (getter instanceof IntAccessor<?>) ) {
+            IntAccessor<TargetT> to = Cast.it( setter );
+            IntAccessor<SourceT> from = Cast.it( getter );
+            return ( source, target ) -> to.setInt( target, from.getInt( source ) );
+        }
+        if ( (setter instanceof LongAccessor<?>) && (getter instanceof LongAccessor<?>) ) {
+            LongAccessor<TargetT> to = Cast.it( setter );
+            LongAccessor<SourceT> from = Cast.it( getter );
+            return ( source, target ) -> to.setLong( target, from.getLong( source ) );
+        }
+        if ( (setter instanceof DoubleAccessor<?>) && (getter instanceof DoubleAccessor<?>) ) {
+            DoubleAccessor<TargetT> to = Cast.it( setter );
+            DoubleAccessor<SourceT> from = Cast.it( getter );
+            return ( source, target ) -> to.setDouble( target, from.getDouble( source ) );
+        }
+        if ( (setter instanceof BooleanAccessor<?>) && (getter instanceof BooleanAccessor<?>) ) {
+            BooleanAccessor<TargetT> to = Cast.it( setter );
+            BooleanAccessor<SourceT> from = Cast.it( getter );
+            return ( source, target ) -> to.setBoolean( target, from.getBoolean( source ) );
+        }
+        return null;
+    }
+
+    private void assertNotCompiled() {
+        if ( compiled ) {
+            throw new Error( "FieldMappers already closed, w/ previous compile()" );
+        }
+    }
+
     private static void nullError( String paramName ) {
         throw new IllegalStateException( paramName + " not allowed to be null" );
     }
@@ -0,0 +1,22 @@
+package org.litesoft.fields;
+
+/**
+ * Optional (see <code>FieldAccessors.setMetrics</code> & <code>FieldMappers.setMetrics</code>) instrumentation SPI, called after each validation
+ * step (Accessor, Validator, or ValueGenerator) and each field mapping, with its duration and whether it failed.
+ * <p>
+ * When no metrics are set, nothing is timed or recorded (the steps only skip a null check).
+ * Implementations must be thread safe (as FieldAccessors & FieldMappers are commonly shared), and should be cheap, as they are called per field.
+ * See <code>FieldMetricsRecorder</code> for a ready-made implementation.
+ */
+@FunctionalInterface
+public interface FieldMetrics {
+    enum Step {ACCESSOR, VALIDATOR, VALUE_GENERATOR, MAPPER}
+
+    /**
+     * @param type   the FieldAccessors' type (or the FieldMappers' target type)
+     * @param name   the field's (Accessor's or mapper's) name, or the Validator's / ValueGenerator's name
+     * @param nanos  the duration of the step
+     * @param failed true if the step reported (or threw) an error
+     */
+    void record( Class<?> type, Step step, String name, long nanos, boolean failed );
+}
@@ -0,0 +1,111 @@
+package org.litesoft.fields;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe <code>FieldMetrics</code> that keeps, per type, step & name: the invocation count, the failure count, and a log2 latency histogram.
+ */
+@SuppressWarnings("unused")
+public final class FieldMetricsRecorder implements FieldMetrics {
+    public record Key(Class<?> type, Step step, String name) {
+        @Override
+        public String toString() {
+            return type.getSimpleName() + "." + step + "." + name;
+        }
+    }
+
+    private final ConcurrentHashMap<Key, Stats> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public void record( Class<?> type, Step step, String name, long nanos, boolean failed ) {
+        stats.computeIfAbsent( new Key( type, step, name ), key -> new Stats() ).record( nanos, failed );
+    }
+
+    /**
+     * @return the stats, or null if nothing has been recorded for the type, step, & name
+     */
+    public Stats get( Class<?> type, Step step, String name ) {
+        return stats.get( new Key( type, step, name ) );
+    }
+
+    /**
+     * @return a live (unmodifiable) view of all the stats
+     */
+    public Map<Key, Stats> getAll() {
+        return Collections.unmodifiableMap( stats );
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    public static final class Stats {
+        private static final int BUCKETS = 64;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final AtomicLongArray histogram = new AtomicLongArray( BUCKETS ); // bucket i: nanos < 2^(i+1) (and, except for bucket 0, >= 2^i)
+
+        void record( long nanos, boolean failed ) {
+            count.increment();
+            if ( failed ) {
+                failures.increment();
+            }
+            histogram.incrementAndGet( bucketFor( nanos ) );
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        /**
+         * @return the (log2 bucketed) latency counts, where bucket i counts the durations below 2^(i+1) nanos (and at least 2^i, except for bucket 0)
+         */
+        public long[] getHistogram() {
+            long[] counts = new long[BUCKETS];
+            for ( int i = 0; i < BUCKETS; i++ ) {
+                counts[i] = histogram.get( i );
+            }
+            return counts;
+        }
+
+        /**
+         * @param percentile 0.0 thru 1.0 (e.g. 0.99)
+         *
+         * @return the upper bound (in nanos) of the bucket holding the percentile, or 0 if nothing recorded
+         */
+        public long getPercentileNanos( double percentile ) {
+            long[] counts = getHistogram();
+            long total = 0;
+            for ( long bucketCount : counts ) {
+                total += bucketCount;
+            }
+            long needed = (long)Math.ceil( total * percentile );
+            long seen = 0;
+            for ( int i = 0; i < BUCKETS; i++ ) {
+                seen += counts[i];
+                if ( (seen >= needed) && (seen > 0) ) {
+                    return (i >= 62) ? Long.MAX_VALUE : (1L << (i + 1));
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + getCount() + ", failures=" + getFailures() + ", p50<" + getPercentileNanos( 0.5 ) + "ns, p99<" + getPercentileNanos( 0.99 ) + "ns";
+        }
+
+        private static int bucketFor( long nanos ) {
+            return (nanos <= 1) ? 0 : (63 - Long.numberOfLeadingZeros( nanos ));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.litesoft.fields;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The differing (mutable) fields between two instances (see <code>FieldAccessors.diff( a, b )</code>), as parallel arrays of the field names and the
+ * new (the <code>b</code> instance's) values, which can be applied to an instance with <code>FieldAccessors.apply( target, patch )</code>.
+ * <p>
+ * A patch is immutable, and is Serializable if its values are (via a <code>Proxy</code> that validates, and copies, the arrays on the way in).
+ */
+@SuppressWarnings("unused")
+public final class FieldPatch implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final FieldPatch EMPTY = new FieldPatch( new String[0], new Object[0] );
+
+    private final String[] fieldNames;
+    private final Object[] values;
+
+    FieldPatch( String[] fieldNames, Object[] values ) {
+        this.fieldNames = fieldNames;
+        this.values = values;
+    }
+
+    public boolean isEmpty() {
+        return fieldNames.length == 0;
+    }
+
+    public int size() {
+        return fieldNames.length;
+    }
+
+    public String getFieldName( int index ) {
+        return fieldNames[index];
+    }
+
+    public Object getValue( int index ) {
+        return values[index];
+    }
+
+    public List<String> getFieldNames() {
+        return List.of( fieldNames );
+    }
+
+    @Override
+    public boolean equals( Object o ) {
+        return (this == o) || ((o instanceof FieldPatch them)
+                               && Arrays.equals( this.fieldNames, them.fieldNames )
+                               && Arrays.equals( this.values, them.values ));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode( fieldNames ) + Arrays.hashCode( values );
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder( "FieldPatch[" );
+        for ( int i = 0; i < fieldNames.length; i++ ) {
+            StringBuilderUtils.addQuotedTo( sb.append( (i == 0) ? "" : ", " ).append( fieldNames[i] ).append( '=' ), values[i] );
+        }
+        return sb.append( ']' ).toString();
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return new Proxy( fieldNames, values );
+    }
+
+    @Serial
+    private void readObject( ObjectInputStream in )
+            throws InvalidObjectException {
+        throw new InvalidObjectException( ERROR_PROXY_REQUIRED );
+    }
+
+    static final String ERROR_PROXY_REQUIRED = "FieldPatch.Proxy required";
+    static final String ERROR_NULL_ARRAY = "FieldPatch with a null fieldNames or values array";
+    static final String ERROR_LENGTH_MISMATCH = "FieldPatch with mismatched fieldNames & values lengths";
+    static final String ERROR_NULL_FIELD_NAME = "FieldPatch with a null field name at index: ";
+
+    static final class Proxy implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final String[] fieldNames;
+        private final Object[] values;
+
+        Proxy( String[] fieldNames, Object[] values ) {
+            this.fieldNames = fieldNames;
+            this.values = values;
+        }
+
+        @Serial
+        private Object readResolve()
+                throws InvalidObjectException {
+            if ( (fieldNames == null) || (values == null) ) {
+                throw new InvalidObjectException( ERROR_NULL_ARRAY );
+            }
+            if ( fieldNames.length != values.length ) {
+                throw new InvalidObjectException( ERROR_LENGTH_MISMATCH );
+            }
+            if ( fieldNames.length == 0 ) {
+                return EMPTY;
+            }
+            String[] names = fieldNames.clone();
+            for ( int i = 0; i < names.length; i++ ) {
+                if ( names[i] == null ) {
+                    throw new InvalidObjectException( ERROR_NULL_FIELD_NAME + i );
+                }
+            }
+            return new FieldPatch( names, values.clone() );
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.litesoft.fields;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.litesoft.utils.Cast;
+
+/**
+ * Immutable (compiled) form of a <code>FieldAccessors</code>, created by <code>done()</code>.
+ * <p>
+ * The Accessors are held in add order in a flat array, the array index being the field's ordinal (the Validators and ValueGenerators also in add order arrays).
+ * As nothing here changes after construction, it is safe to share across threads.
+ */
+final class FrozenFieldAccessors<T> {
+    final Accessor<T, ?>[] accessors;
+    final MutableAccessor<T, ?>[] mutablesByOrdinal; // null entries for the read only Accessors
+    final MutableAccessor<T, ?>[] mutables;
+    final Validator<T>[] validators;
+    final ValueGenerator<T>[] valueGenerators;
+    final NameTable nameTable;
+
+    FrozenFieldAccessors( Collection<Accessor<T, ?>> accessorsInAddOrder, Collection<MutableAccessor<T, ?>> mutablesInAddOrder,
+                          List<Validator<T>> validatorsInAddOrder, List<ValueGenerator<T>> valueGeneratorsInAddOrder ) {
+        accessors = Cast.it( accessorsInAddOrder.toArray( new Accessor<?, ?>[0] ) );
+        mutables = Cast.it( mutablesInAddOrder.toArray( new MutableAccessor<?, ?>[0] ) );
+        validators = Cast.it( validatorsInAddOrder.toArray( new Validator<?>[0] ) );
+        valueGenerators = Cast.it( valueGeneratorsInAddOrder.toArray( new ValueGenerator<?>[0] ) );
+        mutablesByOrdinal = Cast.it( new MutableAccessor<?, ?>[accessors.length] );
+        String[] names = new String[accessors.length];
+        for ( int ordinal = 0; ordinal < accessors.length; ordinal++ ) {
+            Accessor<T, ?> accessor = accessors[ordinal];
+            names[ordinal] = accessor.getName();
+            mutablesByOrdinal[ordinal] = accessor.asMutable();
+        }
+        nameTable = new NameTable( names );
+    }
+
+    int ordinalOf( String name ) {
+        return nameTable.ordinalOf( name );
+    }
+
+    Accessor<T, ?> accessorFor( String name ) {
+        int ordinal = nameTable.ordinalOf( name );
+        return (ordinal < 0) ? null : accessors[ordinal];
+    }
+
+    MutableAccessor<T, ?> mutableFor( String name ) {
+        int ordinal = nameTable.ordinalOf( name );
+        return (ordinal < 0) ? null : mutablesByOrdinal[ordinal];
+    }
+}
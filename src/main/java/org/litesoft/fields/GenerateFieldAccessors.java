@@ -0,0 +1,48 @@
+package org.litesoft.fields;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a (non-generic, top level or static nested) type for the <code>object-fields-processor</code> annotation processor, which generates,
+ * in the same package, a <code>&lt;Type&gt;Fields</code> class (nested types' names are joined with '_', e.g. <code>Outer_InnerFields</code>) with:
+ * <ul>
+ *     <li>an ordinal constant per field (e.g. <code>EDUCATION_LEVEL</code>), and <code>FIELD_COUNT</code></li>
+ *     <li><code>newFieldAccessors()</code>, an (open, so Validators & ValueGenerators can be added before <code>done()</code>) FieldAccessors
+ *     of the fields, accessed directly (no lambdas / method references, and so no lambda bootstrapping), with precomputed metadata</li>
+ * </ul>
+ * The fields are the declared instance (non-static & non-transient) fields, in declaration order; private fields are accessed thru their
+ * (non-private) bean getter (<code>getX()</code>, or for a boolean <code>isX()</code>) and setter (<code>setX( x )</code>, without one the field is read-only);
+ * final fields are read-only, and the primitive fields must be int, long, double, or boolean (use the boxed type otherwise).
+ * <p>
+ * Source retention only, there is no runtime footprint.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateFieldAccessors {
+    /**
+     * Optional per field options.
+     */
+    @Retention(RetentionPolicy.SOURCE)
+    @Target(ElementType.FIELD)
+    @interface Field {
+        boolean required() default false;
+
+        /**
+         * @return 0 for no max length
+         */
+        int maxLength() default 0;
+
+        /**
+         * @return additional metadata (see <code>FieldAccessors.addMetaData</code>)
+         */
+        String metaData() default "";
+
+        /**
+         * @return true to leave the field out
+         */
+        boolean exclude() default false;
+    }
+}
@@ -0,0 +1,9 @@
+package org.litesoft.fields;
+
+import java.util.List;
+
+/**
+ * The (non-empty) FieldErrors of the instance at <code>index</code> of a batch validation.
+ */
+public record IndexedErrors(long index, List<FieldError> errors) {
+}
@@ -0,0 +1,56 @@
+package org.litesoft.fields;
+
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+public class IntAccessor<T> extends PrimitiveAccessor<T, Integer> {
+    /**
+     * @return a read only (not mutable) IntAccessor
+     */
+    public static <T> IntAccessor<T> of( AccessorType accessorType, String name, ToIntFunction<T> getter ) {
+        return new IntAccessor<>( accessorType, name, getter, null );
+    }
+
+    public static <T> IntAccessor<T> of( AccessorType accessorType, String name, ToIntFunction<T> getter, ObjIntConsumer<T> setter ) {
+        return new IntAccessor<>( accessorType, name, getter, setter );
+    }
+
+    private final ToIntFunction<T> getter;
+    private final ObjIntConsumer<T> setter;
+
+    private IntAccessor( AccessorType accessorType, String name, ToIntFunction<T> getter, ObjIntConsumer<T> setter ) {
+        super( accessorType, name, getter::applyAsInt, (setter == null) ? null : setter::accept, int.class );
+        this.getter = getter;
+        this.setter = (setter != null) ? setter : ( instance, value ) -> {
+            throw readOnlyError();
+        };
+    }
+
+    public int getInt( T instance ) {
+        return getter.applyAsInt( instance );
+    }
+
+    public void setInt( T instance, int value ) {
+        setter.accept( instance, value );
+    }
+
+    @Override
+    public int hashValue( T instance ) {
+        return Integer.hashCode( getInt( instance ) );
+    }
+
+    @Override
+    public boolean equalValues( T us, T them ) {
+        return getInt( us ) == getInt( them );
+    }
+
+    @Override
+    public void copyValue( T to, T from ) {
+        setInt( to, getInt( from ) );
+    }
+
+    @Override
+    public ToStringBuilder addValueTo( ToStringBuilder builder, T instance ) {
+        return builder.add( getName(), getInt( instance ) );
+    }
+}
@@ -0,0 +1,548 @@
+package org.litesoft.fields;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.litesoft.utils.Cast;
+
+/**
+ * Dependency free streaming JSON form of the fields of a closed <code>FieldAccessors</code>.
+ * <p>
+ * Writing renders every field (in add order, nulls as <code>null</code>) as one JSON object, straight into an <code>Appendable</code> or a
+ * <code>ByteBuffer</code> (UTF-8), using pre-rendered (and pre-encoded) <code>"name":</code> tokens.
+ * Non-finite doubles are written as the Strings "NaN", "Infinity", and "-Infinity" (and read back).
+ * <p>
+ * Reading is a pull parser that dispatches each member (by name, thru the frozen name table without creating a String) to the field's
+ * MutableAccessor; unknown members and read only fields are skipped.
+ * A codec is immutable (thread safe).
+ */
+@SuppressWarnings("unused")
+public final class JsonCodec<T> {
+    static final String ERROR_MALFORMED_PREFIX = "Malformed JSON at ";
+
+    public static <T> JsonCodec<T> of( FieldAccessors<T> fas ) {
+        return new JsonCodec<>( fas );
+    }
+
+    private final FieldAccessors<T> fas;
+    private final Accessor<T, ?>[] accessors;
+    private final MutableAccessor<T, ?>[] mutables; // by ordinal, null for the read only fields
+    private final FieldKind[] kinds;
+    private final boolean[] primitives;
+    private final String[] nameTokens; // "name": (all but the first preceded by a comma)
+    private final byte[][] nameTokenBytes; // UTF-8 of the nameTokens
+
+    private JsonCodec( FieldAccessors<T> fas ) {
+        if ( !fas.isDone() ) {
+            throw new Error( FieldAccessors.ERROR_NOT_DONE );
+        }
+        this.fas = fas;
+        accessors = fas.accessors();
+        mutables = Cast.it( new MutableAccessor<?, ?>[accessors.length] );
+        kinds = new FieldKind[accessors.length];
+        primitives = new boolean[accessors.length];
+        nameTokens = new String[accessors.length];
+        nameTokenBytes = new byte[accessors.length][];
+        for ( int i = 0; i < accessors.length; i++ ) {
+            Accessor<T, ?> accessor = accessors[i];
+            mutables[i] = accessor.asMutable();
+            kinds[i] = FieldKind.required( accessor, "JsonCodec" );
+            primitives[i] = FieldKind.isPrimitive( accessor );
+            StringBuilder sb = new StringBuilder( (i == 0) ? "" : "," );
+            appendQuoted( sb, accessor.getName() );
+            nameTokens[i] = sb.append( ':' ).toString();
+            nameTokenBytes[i] = nameTokens[i].getBytes( StandardCharsets.UTF_8 );
+        }
+    }
+
+    public String toJson( T instance ) {
+        return write( instance, new StringBuilder() ).toString();
+    }
+
+    public <A extends Appendable> A write( T instance, A out ) {
+        try {
+            out.append( '{' );
+            for ( int i = 0; i < accessors.length; i++ ) {
+                out.append( nameTokens[i] );
+                writeValue( i, instance, out );
+            }
+            out.append( '}' );
+        }
+        catch ( IOException e ) {
+            throw new UncheckedIOException( e );
+        }
+        return out;
+    }
+
+    /**
+     * Write the <code>instance</code> as UTF-8 into the <code>out</code> buffer (at its position, which is advanced).
+     */
+    public ByteBuffer write( T instance, ByteBuffer out ) {
+        out.put( (byte)'{' );
+        for ( int i = 0; i < accessors.length; i++ ) {
+            out.put( nameTokenBytes[i] );
+            writeValue( i, instance, out );
+        }
+        return out.put( (byte)'}' );
+    }
+
+    public T read( CharSequence json, T target ) {
+        new Parser( json ).readObject( target );
+        return target;
+    }
+
+    /**
+     * Read (all) the remaining UTF-8 of the <code>in</code> buffer into the <code>target</code>.
+     */
+    public T read( ByteBuffer in, T target ) {
+        return read( Utf8.decode( in, in.remaining() ), target );
+    }
+
+    private void writeValue( int ordinal, T instance, Appendable out )
+            throws IOException {
+        Accessor<T, ?> accessor = accessors[ordinal];
+        if ( primitives[ordinal] ) {
+            switch ( kinds[ordinal] ) {
+                case INT -> appendLong( out, Cast.<IntAccessor<T>>it( accessor ).getInt( instance ) );
+                case LONG -> appendLong( out, Cast.<LongAccessor<T>>it( accessor ).getLong( instance ) );
+                case DOUBLE -> appendDouble( out, Cast.<DoubleAccessor<T>>it( accessor ).getDouble( instance ) );
+                case BOOLEAN -> out.append( Cast.<BooleanAccessor<T>>it( accessor ).getBoolean( instance ) ? "true" : "false" );
+                default -> throw new Error( "Not a primitive kind: " + kinds[ordinal] );
+            }
+            return;
+        }
+        Object value = accessor.getValue( instance );
+        if ( value == null ) {
+            out.append( "null" );
+            return;
+        }
+        switch ( kinds[ordinal] ) {
+            case INT, LONG -> appendLong( out, ((Number)value).longValue() );
+            case DOUBLE -> appendDouble( out, (Double)value );
+            case BOOLEAN -> out.append( (Boolean)value ? "true" : "false" );
+            case STRING -> appendQuoted( out, (String)value );
+        }
+    }
+
+    private void writeValue( int ordinal, T instance, ByteBuffer out ) {
+        Accessor<T, ?> accessor = accessors[ordinal];
+        if ( primitives[ordinal] ) {
+            switch ( kinds[ordinal] ) {
+                case INT -> putLong( out, Cast.<IntAccessor<T>>it( accessor ).getInt( instance ) );
+                case LONG -> putLong( out, Cast.<LongAccessor<T>>it( accessor ).getLong( instance ) );
+                case DOUBLE -> putDouble( out, Cast.<DoubleAccessor<T>>it( accessor ).getDouble( instance ) );
+                case BOOLEAN -> putAscii( out, Cast.<BooleanAccessor<T>>it( accessor ).getBoolean( instance ) ? "true" : "false" );
+                default -> throw new Error( "Not a primitive kind: " + kinds[ordinal] );
+            }
+            return;
+        }
+        Object value = accessor.getValue( instance );
+        if ( value == null ) {
+            putAscii( out, "null" );
+            return;
+        }
+        switch ( kinds[ordinal] ) {
+            case INT, LONG -> putLong( out, ((Number)value).longValue() );
+            case DOUBLE -> putDouble( out, (Double)value );
+            case BOOLEAN -> putAscii( out, (Boolean)value ? "true" : "false" );
+            case STRING -> putQuoted( out, (String)value );
+        }
+    }
+
+    private static void appendLong( Appendable out, long value )
+            throws IOException {
+        if ( out instanceof StringBuilder ) {
+            ((StringBuilder)out).append( value );
+        } else {
+            out.append( Long.toString( value ) );
+        }
+    }
+
+    private static void appendDouble( Appendable out, double value )
+            throws IOException {
+        if ( !Double.isFinite( value ) ) {
+            out.append( '"' ).append( Double.toString( value ) ).append( '"' );
+        } else if ( out instanceof StringBuilder ) {
+            ((StringBuilder)out).append( value );
+        } else {
+            out.append( Double.toString( value ) );
+        }
+    }
+
+    private static void appendQuoted( Appendable out, String value )
+            throws IOException {
+        out.append( '"' );
+        int start = 0;
+        for ( int i = 0; i < value.length(); i++ ) {
+            String escape = escapeFor( value.charAt( i ) );
+            if ( escape != null ) {
+                out.append( value, start, i ).append( escape );
+                start = i + 1;
+            }
+        }
+        out.append( value, start, value.length() ).append( '"' );
+    }
+
+    private static void appendQuoted( StringBuilder sb, String value ) {
+        try {
+            appendQuoted( (Appendable)sb, value );
+        }
+        catch ( IOException e ) { // StringBuilder never throws
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    private static void putLong( ByteBuffer out, long value ) {
+        if ( value == Long.MIN_VALUE ) {
+            putAscii( out, Long.toString( value ) );
+            return;
+        }
+        if ( value < 0 ) {
+            out.put( (byte)'-' );
+            value = -value;
+        }
+        int digits = 1;
+        for ( long remaining = value; remaining >= 10; remaining /= 10 ) {
+            digits++;
+        }
+        if ( out.remaining() < digits ) {
+            throw new BufferOverflowException();
+        }
+        int at = out.position();
+        for ( int i = at + digits - 1; i >= at; i-- ) {
+            out.put( i, (byte)('0' + (value % 10)) );
+            value /= 10;
+        }
+        out.position( at + digits );
+    }
+
+    private static void putDouble( ByteBuffer out, double value ) {
+        if ( Double.isFinite( value ) ) {
+            putAscii( out, Double.toString( value ) );
+        } else {
+            out.put( (byte)'"' );
+            putAscii( out, Double.toString( value ) );
+            out.put( (byte)'"' );
+        }
+    }
+
+    private static void putQuoted( ByteBuffer out, String value ) {
+        out.put( (byte)'"' );
+        int start = 0;
+        for ( int i = 0; i < value.length(); i++ ) {
+            String escape = escapeFor( value.charAt( i ) );
+            if ( escape != null ) {
+                Utf8.encode( value, start, i, out );
+                putAscii( out, escape );
+                start = i + 1;
+            }
+        }
+        Utf8.encode( value, start, value.length(), out );
+        out.put( (byte)'"' );
+    }
+
+    private static void putAscii( ByteBuffer out, String ascii ) {
+        for ( int i = 0; i < ascii.length(); i++ ) {
+            out.put( (byte)ascii.charAt( i ) );
+        }
+    }
+
+    /**
+     * @return the escape sequence for the char, or null if it does not need escaping
+     */
+    private static String escapeFor( char c ) {
+        if ( c >= 0x20 ) {
+            return (c == '"') ? "\\\"" : (c == '\\') ? "\\\\" : null;
+        }
+        return switch ( c ) {
+            case '\n' -> "\\n";
+            case '\r' -> "\\r";
+            case '\t' -> "\\t";
+            case '\b' -> "\\b";
+            case '\f' -> "\\f";
+            default -> String.format( "\\u%04x", (int)c );
+        };
+    }
+
+    private class Parser {
+        private final CharSequence json;
+        private final int length;
+        private int pos;
+
+        Parser( CharSequence json ) {
+            this.json = json;
+            this.length = json.length();
+        }
+
+        void readObject( T target ) {
+            skipWhitespace();
+            expect( '{' );
+            skipWhitespace();
+            if ( !consume( '}' ) ) {
+                do {
+                    skipWhitespace();
+                    int ordinal = readName();
+                    skipWhitespace();
+                    expect( ':' );
+                    skipWhitespace();
+                    if ( (ordinal < 0) || (mutables[ordinal] == null) ) {
+                        skipValue();
+                    } else {
+                        readValue( ordinal, target );
+                    }
+                    skipWhitespace();
+                } while ( consume( ',' ) );
+                expect( '}' );
+            }
+            skipWhitespace();
+            if ( pos < length ) {
+                throw malformed( "content after the object" );
+            }
+        }
+
+        private int readName() {
+            expect( '"' );
+            int start = pos;
+            while ( pos < length ) {
+                char c = json.charAt( pos );
+                if ( c == '"' ) {
+                    return fas.getOrdinal( json, start, pos++ );
+                }
+                if ( c == '\\' ) { // escaped name (rare), so resolve the name as a String
+                    pos = start;
+                    return fas.getOrdinal( readStringBody() );
+                }
+                pos++;
+            }
+            throw malformed( "unterminated String" );
+        }
+
+        private void readValue( int ordinal, T target ) {
+            MutableAccessor<T, Object> mutable = Cast.it( mutables[ordinal] );
+            if ( consumeLiteral( "null" ) ) {
+                if ( primitives[ordinal] ) {
+                    throw malformed( "null for primitive field: " + mutable.getName() );
+                }
+                mutable.setValue( target, null );
+                return;
+            }
+            switch ( kinds[ordinal] ) {
+                case INT -> {
+                    long value = readLong();
+                    if ( value != (int)value ) {
+                        throw malformed( "int out of range for field: " + mutable.getName() );
+                    }
+                    if ( primitives[ordinal] ) {
+                        Cast.<IntAccessor<T>>it( mutable ).setInt( target, (int)value );
+                    } else {
+                        mutable.setValue( target, (int)value );
+                    }
+                }
+                case LONG -> {
+                    long value = readLong();
+                    if ( primitives[ordinal] ) {
+                        Cast.<LongAccessor<T>>it( mutable ).setLong( target, value );
+                    } else {
+                        mutable.setValue( target, value );
+                    }
+                }
+                case DOUBLE -> {
+                    double value = readDouble();
+                    if ( primitives[ordinal] ) {
+                        Cast.<DoubleAccessor<T>>it( mutable ).setDouble( target, value );
+                    } else {
+                        mutable.setValue( target, value );
+                    }
+                }
+                case BOOLEAN -> {
+                    boolean value = readBoolean();
+                    if ( primitives[ordinal] ) {
+                        Cast.<BooleanAccessor<T>>it( mutable ).setBoolean( target, value );
+                    } else {
+                        mutable.setValue( target, value );
+                    }
+                }
+                case STRING -> {
+                    expect( '"' );
+                    mutable.setValue( target, readStringBody() );
+                }
+            }
+        }
+
+        private long readLong() {
+            int start = pos;
+            int end = scanNumber();
+            try {
+                return Long.parseLong( json, start, end, 10 );
+            }
+            catch ( NumberFormatException e ) {
+                pos = start;
+                throw malformed( "not an integer" );
+            }
+        }
+
+        private double readDouble() {
+            int start = pos;
+            String text;
+            if ( consume( '"' ) ) { // non-finite
+                text = readStringBody();
+            } else {
+                text = json.subSequence( start, scanNumber() ).toString();
+            }
+            try {
+                return Double.parseDouble( text );
+            }
+            catch ( NumberFormatException e ) {
+                pos = start;
+                throw malformed( "not a number" );
+            }
+        }
+
+        private boolean readBoolean() {
+            if ( consumeLiteral( "true" ) ) {
+                return true;
+            }
+            if ( consumeLiteral( "false" ) ) {
+                return false;
+            }
+            throw malformed( "not a boolean" );
+        }
+
+        /**
+         * @return the String (whose opening quote has been consumed)
+         */
+        private String readStringBody() {
+            int start = pos;
+            while ( (pos < length) && (json.charAt( pos ) != '"') && (json.charAt( pos ) != '\\') ) {
+                pos++;
+            }
+            if ( pos >= length ) {
+                throw malformed( "unterminated String" );
+            }
+            if ( json.charAt( pos ) == '"' ) { // no escapes
+                return json.subSequence( start, pos++ ).toString();
+            }
+            StringBuilder sb = new StringBuilder().append( json, start, pos );
+            while ( pos < length ) {
+                char c = json.charAt( pos++ );
+                if ( c == '"' ) {
+                    return sb.toString();
+                }
+                sb.append( (c == '\\') ? readEscaped() : c );
+            }
+            throw malformed( "unterminated String" );
+        }
+
+        private char readEscaped() {
+            if ( pos >= length ) {
+                throw malformed( "unterminated escape" );
+            }
+            char c = json.charAt( pos++ );
+            return switch ( c ) {
+                case '"', '\\', '/' -> c;
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'u' -> readUnicodeEscape();
+                default -> throw malformed( "invalid escape: \\" + c );
+            };
+        }
+
+        private char readUnicodeEscape() {
+            if ( (pos + 4) > length ) {
+                throw malformed( "truncated unicode escape" );
+            }
+            try {
+                char c = (char)Integer.parseInt( json, pos, pos + 4, 16 );
+                pos += 4;
+                return c;
+            }
+            catch ( NumberFormatException e ) {
+                throw malformed( "invalid unicode escape" );
+            }
+        }
+
+        private void skipValue() {
+            if ( consume( '"' ) ) {
+                readStringBody();
+            } else if ( (pos < length) && ((json.charAt( pos ) == '{') || (json.charAt( pos ) == '[')) ) {
+                int depth = 0;
+                do {
+                    char c = json.charAt( pos++ );
+                    if ( c == '"' ) {
+                        readStringBody();
+                    } else if ( (c == '{') || (c == '[') ) {
+                        depth++;
+                    } else if ( (c == '}') || (c == ']') ) {
+                        depth--;
+                    }
+                } while ( (depth > 0) && (pos < length) );
+                if ( depth > 0 ) {
+                    throw malformed( "unterminated " + ((json.charAt( pos - 1 ) == ']') ? "array" : "object") );
+                }
+            } else {
+                int start = pos;
+                while ( (pos < length) && ",}] \t\r\n".indexOf( json.charAt( pos ) ) < 0 ) {
+                    pos++;
+                }
+                if ( start == pos ) {
+                    throw malformed( "missing value" );
+                }
+            }
+        }
+
+        private int scanNumber() {
+            int start = pos;
+            while ( (pos < length) && "+-0123456789.eE".indexOf( json.charAt( pos ) ) >= 0 ) {
+                pos++;
+            }
+            if ( start == pos ) {
+                throw malformed( "missing number" );
+            }
+            return pos;
+        }
+
+        private boolean consumeLiteral( String literal ) {
+            int end = pos + literal.length();
+            if ( end > length ) {
+                return false;
+            }
+            for ( int i = 0; i < literal.length(); i++ ) {
+                if ( json.charAt( pos + i ) != literal.charAt( i ) ) {
+                    return false;
+                }
+            }
+            pos = end;
+            return true;
+        }
+
+        private boolean consume( char expected ) {
+            if ( (pos < length) && (json.charAt( pos ) == expected) ) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect( char expected ) {
+            if ( !consume( expected ) ) {
+                throw malformed( "expected '" + expected + "'" );
+            }
+        }
+
+        private void skipWhitespace() {
+            while ( (pos < length) && (" \t\r\n".indexOf( json.charAt( pos ) ) >= 0) ) {
+                pos++;
+            }
+        }
+
+        private IllegalStateException malformed( String problem ) {
+            return new IllegalStateException( ERROR_MALFORMED_PREFIX + pos + ", " + problem );
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.litesoft.fields;
+
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
+
+public class LongAccessor<T> extends PrimitiveAccessor<T, Long> {
+    /**
+     * @return a read only (not mutable) LongAccessor
+     */
+    public static <T> LongAccessor<T> of( AccessorType accessorType, String name, ToLongFunction<T> getter ) {
+        return new LongAccessor<>( accessorType, name, getter, null );
+    }
+
+    public static <T> LongAccessor<T> of( AccessorType accessorType, String name, ToLongFunction<T> getter, ObjLongConsumer<T> setter ) {
+        return new LongAccessor<>( accessorType, name, getter, setter );
+    }
+
+    private final ToLongFunction<T> getter;
+    private final ObjLongConsumer<T> setter;
+
+    private LongAccessor( AccessorType accessorType, String name, ToLongFunction<T> getter, ObjLongConsumer<T> setter ) {
+        super( accessorType, name, getter::applyAsLong, (setter == null) ? null : setter::accept, long.class );
+        this.getter = getter;
+        this.setter = (setter != null) ? setter : ( instance, value ) -> {
+            throw readOnlyError();
+        };
+    }
+
+    public long getLong( T instance ) {
+        return getter.applyAsLong( instance );
+    }
+
+    public void setLong( T instance, long value ) {
+        setter.accept( instance, value );
+    }
+
+    @Override
+    public int hashValue( T instance ) {
+        return Long.hashCode( getLong( instance ) );
+    }
+
+    @Override
+    public boolean equalValues( T us, T them ) {
+        return getLong( us ) == getLong( them );
+    }
+
+    @Override
+    public void copyValue( T to, T from ) {
+        setLong( to, getLong( from ) );
+    }
+
+    @Override
+    public ToStringBuilder addValueTo( ToStringBuilder builder, T instance ) {
+        return builder.add( getName(), getLong( instance ) );
+    }
+}
@@ -0,0 +1,165 @@
+package org.litesoft.fields;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * File backed (memory-mapped) store of fixed size records (see <code>RecordLayout</code>) of the (mutable) fields of a closed <code>FieldAccessors</code>.
+ * <p>
+ * The file is a header (magic, version, record size, record count, and layout hash) followed by the records in fixed size slots.
+ * Opening an existing file only maps it (the OS pages the records in as they are read), so startup does not deserialize anything.
+ * Records are appended (the file growing a mapped segment at a time), read (whole or thru a flyweight <code>RecordView</code>) by index,
+ * and updated in place (a single field thru a <code>RecordView</code>). String fields require a max length (as each slot has a fixed size).
+ * <p>
+ * Changes are written thru the mapping (visible to other mappings of the file immediately), and made durable by <code>force()</code> (or <code>close()</code>).
+ * A file is NOT thread safe.
+ */
+@SuppressWarnings("unused")
+public final class MappedRecordFile<T> extends AbstractRecordStore<T> implements Closeable {
+    static final int MAGIC = 0x4C535246; // "LSRF"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    private static final int MAGIC_AT = 0;
+    private static final int VERSION_AT = 4;
+    private static final int RECORD_SIZE_AT = 8;
+    private static final int COUNT_AT = 12;
+    private static final int LAYOUT_HASH_AT = 16;
+    private static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+
+    /**
+     * Open (or create) the record file at <code>path</code>.
+     *
+     * @throws IllegalStateException if the existing file is not a record file, or its layout does not match the <code>fas</code>
+     */
+    public static <T> MappedRecordFile<T> open( FieldAccessors<T> fas, Path path ) {
+        RecordLayout<T> layout = new RecordLayout<>( fas, "MappedRecordFile" );
+        return new MappedRecordFile<>( layout, path, DEFAULT_SEGMENT_BYTES / layout.recordSize() );
+    }
+
+    /**
+     * Open (or create) the record file at <code>path</code>, mapping (and growing) it <code>recordsPerSegment</code> records at a time.
+     */
+    public static <T> MappedRecordFile<T> open( FieldAccessors<T> fas, Path path, int recordsPerSegment ) {
+        return new MappedRecordFile<>( new RecordLayout<>( fas, "MappedRecordFile" ), path, recordsPerSegment );
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final List<MappedByteBuffer> mapped = new ArrayList<>();
+
+    private MappedRecordFile( RecordLayout<T> layout, Path path, int recordsPerSegment ) {
+        super( layout, recordsPerSegment );
+        this.path = path;
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open( path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE );
+            long fileSize = channel.size();
+            if ( (0 < fileSize) && (fileSize < HEADER_SIZE) ) { // checked before mapping, as mapping would grow the file
+                throw new IllegalStateException( "Not a record file (too short): " + path );
+            }
+            this.channel = channel;
+            header = channel.map( FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE );
+            if ( fileSize == 0 ) {
+                header.putInt( MAGIC_AT, MAGIC ).putInt( VERSION_AT, VERSION ).putInt( RECORD_SIZE_AT, recordSize )
+                        .putInt( COUNT_AT, 0 ).putLong( LAYOUT_HASH_AT, layout.hash() );
+            } else {
+                checkHeader( layout );
+                int count = header.getInt( COUNT_AT );
+                ensureCapacity( count );
+                size = count;
+            }
+            channel = null; // success, keep it
+        }
+        catch ( IOException e ) {
+            throw new UncheckedIOException( e );
+        }
+        finally {
+            closeQuietly( channel );
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Make the records (and the record count) durable.
+     */
+    public void force() {
+        for ( MappedByteBuffer segment : mapped ) {
+            segment.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Force, and close the file (the mappings are released when collected); the file (and its views) must not be used after closing.
+     */
+    @Override
+    public void close() {
+        try {
+            force();
+            channel.close();
+        }
+        catch ( IOException e ) {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    @Override
+    ByteBuffer newSegment( int segment ) {
+        long position = HEADER_SIZE + ((long)segment * segmentBytes());
+        try {
+            MappedByteBuffer buffer = channel.map( FileChannel.MapMode.READ_WRITE, position, segmentBytes() ); // extends the file as needed
+            mapped.add( buffer );
+            return buffer;
+        }
+        catch ( IOException e ) {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    @Override
+    void sizeChanged( int size ) {
+        super.sizeChanged( size );
+        header.putInt( COUNT_AT, size );
+    }
+
+    /**
+     * Close a channel (on a failed open) without masking the original problem.
+     */
+    private static void closeQuietly( FileChannel channel ) {
+        if ( channel != null ) {
+            try {
+                channel.close();
+            }
+            catch ( IOException ignore ) {
+                // the open's failure is the one reported
+            }
+        }
+    }
+
+    private void checkHeader( RecordLayout<T> layout ) {
+        if ( header.getInt( MAGIC_AT ) != MAGIC ) {
+            throw new IllegalStateException( "Not a record file: " + path );
+        }
+        if ( header.getInt( VERSION_AT ) != VERSION ) {
+            throw new IllegalStateException( "Unsupported record file version (" + header.getInt( VERSION_AT ) + "): " + path );
+        }
+        if ( (header.getInt( RECORD_SIZE_AT ) != recordSize) || (header.getLong( LAYOUT_HASH_AT ) != layout.hash()) ) {
+            throw new IllegalStateException( "Record file layout does not match the FieldAccessors: " + path );
+        }
+        if ( header.getInt( COUNT_AT ) < 0 ) {
+            throw new IllegalStateException( "Corrupt record count (" + header.getInt( COUNT_AT ) + "): " + path );
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.litesoft.fields;
+
+import java.util.Map;
+
+/**
+ * The <code>target</code> mapped from the source at <code>index</code> of a streaming mapping, and its (possibly empty) FieldErrors by field name.
+ */
+public record MappedRow<TargetT>(long index, TargetT target, Map<String, FieldError> fieldErrors) {
+    public boolean hasErrors() {
+        return !fieldErrors.isEmpty();
+    }
+}
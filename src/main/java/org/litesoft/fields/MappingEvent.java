@@ -0,0 +1,52 @@
+package org.litesoft.fields;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for the mapping of a source instance into a target instance by a <code>FieldMappers</code> (enabled, and only recorded if at least 1 ms, by default);
+ * like any JFR event, it is configured thru the standard settings, e.g. <code>org.litesoft.fields.Mapping#threshold=0 ms</code>.
+ */
+@Name(MappingEvent.NAME)
+@Label("Field Mapping")
+@Category({"LiteSoft", "Object Fields"})
+@Description("Mapping of a source instance into a target instance by a FieldMappers")
+@StackTrace(false)
+@Threshold("1 ms")
+final class MappingEvent extends jdk.jfr.Event {
+    static final String NAME = "org.litesoft.fields.Mapping";
+    private static final EventType TYPE = eventType();
+
+    @Label("Target Type")
+    String typeName;
+
+    @Label("Source Type")
+    String sourceTypeName;
+
+    @Label("Field Count")
+    int fieldCount;
+
+    @Label("Error Count")
+    int errorCount;
+
+    /**
+     * @return true if any (running) recording has this event enabled (checked before creating the event, so nothing is allocated otherwise)
+     */
+    static boolean enabled() {
+        return (TYPE != null) && TYPE.isEnabled();
+    }
+
+    private static EventType eventType() {
+        try {
+            return EventType.getEventType( MappingEvent.class );
+        }
+        catch ( RuntimeException e ) { // JFR not available in this JVM
+            return null;
+        }
+    }
+}
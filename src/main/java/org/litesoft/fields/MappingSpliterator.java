@@ -0,0 +1,88 @@
+package org.litesoft.fields;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.litesoft.utils.Cast;
+
+/**
+ * Lazily maps each source (as it is pulled) into a new target, for <code>FieldMappers.stream(...)</code>.
+ * <p>
+ * Each row's index is its encounter index in the sources (regardless of how the work is split or the order the rows are actually mapped in).
+ * Splitting uses the sources' own split when their exact sizes are known (SUBSIZED), otherwise a batch of (at most <code>maxBatch</code>) sources
+ * is pulled into an array, so beyond the rows in flight, only the (few per worker) pulled batches are held in memory.
+ */
+final class MappingSpliterator<TargetT, SourceT> implements Spliterator<MappedRow<TargetT>> {
+    static final int DEFAULT_MAX_BATCH = 1024;
+
+    private final FieldMappers<TargetT, SourceT> mappers;
+    private final Supplier<TargetT> targetFactory;
+    private final Spliterator<SourceT> sources;
+    private final int maxBatch;
+    private long nextIndex;
+
+    MappingSpliterator( FieldMappers<TargetT, SourceT> mappers, Supplier<TargetT> targetFactory, Spliterator<SourceT> sources, int maxBatch, long baseIndex ) {
+        this.mappers = mappers;
+        this.targetFactory = targetFactory;
+        this.sources = sources;
+        this.maxBatch = maxBatch;
+        this.nextIndex = baseIndex;
+    }
+
+    @Override
+    public boolean tryAdvance( Consumer<? super MappedRow<TargetT>> action ) {
+        return sources.tryAdvance( source -> action.accept( map( source ) ) );
+    }
+
+    @Override
+    public void forEachRemaining( Consumer<? super MappedRow<TargetT>> action ) {
+        sources.forEachRemaining( source -> action.accept( map( source ) ) );
+    }
+
+    @Override
+    public Spliterator<MappedRow<TargetT>> trySplit() {
+        if ( sources.hasCharacteristics( Spliterator.SUBSIZED ) ) {
+            Spliterator<SourceT> prefix = sources.trySplit();
+            if ( prefix == null ) {
+                return null;
+            }
+            long baseIndex = nextIndex;
+            nextIndex += prefix.getExactSizeIfKnown();
+            return new MappingSpliterator<>( mappers, targetFactory, prefix, maxBatch, baseIndex );
+        }
+        Object[] batch = new Object[maxBatch];
+        int[] count = {0};
+        while ( (count[0] < maxBatch) && sources.tryAdvance( source -> batch[count[0]++] = source ) ) {
+            // pulling into the batch
+        }
+        if ( count[0] == 0 ) {
+            return null;
+        }
+        long baseIndex = nextIndex;
+        nextIndex += count[0];
+        Spliterator<SourceT> prefix = Cast.it( Spliterators.spliterator( batch, 0, count[0], Spliterator.ORDERED ) );
+        return new MappingSpliterator<>( mappers, targetFactory, prefix, maxBatch, baseIndex );
+    }
+
+    @Override
+    public long estimateSize() {
+        return sources.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL | (sources.characteristics() & (Spliterator.SIZED | Spliterator.SUBSIZED));
+    }
+
+    private MappedRow<TargetT> map( SourceT source ) {
+        TargetT target = targetFactory.get();
+        Map<String, FieldError> fieldErrors = new LinkedHashMap<>();
+        mappers.map( target, source, fieldErrors );
+        return new MappedRow<>( nextIndex++, target, fieldErrors.isEmpty() ? Collections.emptyMap() : fieldErrors );
+    }
+}
@@ -15,27 +15,56 @@ public class MutableAccessor<T, R> extends Accessor<T, R> implements BiConsumer<
     private final BiConsumer<T, R> setter;
     private UnaryOperator<? extends R> normalizer;
 
-    private MutableAccessor( AccessorType accessorType, String name, Function<T, R> accessor, BiConsumer<T, R> setter ) {
+    protected MutableAccessor( AccessorType accessorType, String name, Function<T, R> accessor, BiConsumer<T, R> setter ) {
         super( accessorType, name, accessor );
         this.setter = setter;
     }
 
     @SuppressWarnings("UnusedReturnValue")
     public <AT extends R> Accessor<T, R> withType( Class<AT> type, UnaryOperator<AT> normalizer ) {
+        assertNotFrozen();
         this.normalizer = normalizer;
         return super.withType( type );
     }
 
     @SuppressWarnings("UnusedReturnValue")
     public <AT extends R> Accessor<T, R> withType( Class<AT> type, UnaryOperator<AT> normalizer, Consumer<AT> validator ) {
+        assertNotFrozen();
         this.normalizer = normalizer;
         return super.withType( type, validator );
     }
 
+    @SuppressWarnings("UnusedReturnValue")
+    public <AT extends R> Accessor<T, R> withReportingType( Class<AT> type, UnaryOperator<AT> normalizer, Reporter<AT> reporter ) {
+        assertNotFrozen();
+        this.normalizer = normalizer;
+        return super.withReportingType( type, reporter );
+    }
+
     public void setValue( T instance, R value ) {
         updateValue( instance, value );
     }
 
+    /**
+     * Copy the field's value from the <code>from</code> instance to the <code>to</code> instance; overridden by the primitive Accessors to avoid boxing
+     */
+    public void copyValue( T to, T from ) {
+        setValue( to, getValue( from ) );
+    }
+
+    /**
+     * Copy the field's value (as per <code>copyValue</code>) only if the values differ (as per <code>equalValues</code>).
+     *
+     * @return true if the value was copied
+     */
+    public boolean copyValueIfChanged( T to, T from ) {
+        if ( equalValues( to, from ) ) {
+            return false;
+        }
+        copyValue( to, from );
+        return true;
+    }
+
     @Override
     public void accept( T instance, R value ) {
         setValue( instance, value );
@@ -46,6 +75,11 @@ public class MutableAccessor<T, R> extends Accessor<T, R> implements BiConsumer<
         return (normalizer == null) ? value : updateValueWithNormalization( instance, value );
     }
 
+    @Override
+    protected boolean hasValueChecks() {
+        return (normalizer != null) || super.hasValueChecks();
+    }
+
     private R updateValueWithNormalization( T instance, R value ) {
         return updateValue( instance, normalizer.apply( Cast.it( value ) ) );
     }
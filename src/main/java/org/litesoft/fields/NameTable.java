@@ -0,0 +1,106 @@
+package org.litesoft.fields;
+
+/**
+ * Immutable name to ordinal lookup table.
+ * <p>
+ * The table size is grown (within limits) until every name lands in its own slot, so a lookup is (almost always) one hash, one mask, and one compare.
+ * Should no collision free size be found, the table falls back to linear probing.
+ */
+final class NameTable {
+    private static final int MAX_TABLE_SIZE_MULTIPLIER = 16;
+
+    private final String[] names;
+    private final int[] ordinals;
+    private final int mask;
+
+    NameTable( String[] namesInOrdinalOrder ) {
+        int count = namesInOrdinalOrder.length;
+        int minSize = tableSizeFor( Math.max( 2, count * 2 ) );
+        int size = minSize;
+        while ( !collisionFree( namesInOrdinalOrder, size - 1 ) && (size < (minSize * MAX_TABLE_SIZE_MULTIPLIER)) ) {
+            size <<= 1;
+        }
+        names = new String[size];
+        ordinals = new int[size];
+        mask = size - 1;
+        for ( int ordinal = 0; ordinal < count; ordinal++ ) {
+            String name = namesInOrdinalOrder[ordinal];
+            int slot = slotFor( name, mask );
+            while ( names[slot] != null ) {
+                slot = (slot + 1) & mask;
+            }
+            names[slot] = name;
+            ordinals[slot] = ordinal;
+        }
+    }
+
+    /**
+     * @return the ordinal for the <code>name</code> or -1 if not found
+     */
+    int ordinalOf( String name ) {
+        if ( name != null ) {
+            for ( int slot = slotFor( name, mask ); ; slot = (slot + 1) & mask ) {
+                String candidate = names[slot];
+                if ( candidate == null ) {
+                    break;
+                }
+                if ( (candidate == name) || candidate.equals( name ) ) {
+                    return ordinals[slot];
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Lookup without creating a String (e.g. directly from a parser's buffer).
+     *
+     * @return the ordinal for the name <code>chars</code> from <code>start</code> (inclusive) to <code>end</code> (exclusive) or -1 if not found
+     */
+    int ordinalOf( CharSequence chars, int start, int end ) {
+        int h = 0;
+        for ( int i = start; i < end; i++ ) {
+            h = 31 * h + chars.charAt( i ); // same as String.hashCode
+        }
+        int length = end - start;
+        for ( int slot = (h ^ (h >>> 16)) & mask; ; slot = (slot + 1) & mask ) {
+            String candidate = names[slot];
+            if ( candidate == null ) {
+                return -1;
+            }
+            if ( (candidate.length() == length) && matches( candidate, chars, start ) ) {
+                return ordinals[slot];
+            }
+        }
+    }
+
+    private static boolean matches( String candidate, CharSequence chars, int start ) {
+        for ( int i = 0; i < candidate.length(); i++ ) {
+            if ( candidate.charAt( i ) != chars.charAt( start + i ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean collisionFree( String[] names, int mask ) {
+        boolean[] used = new boolean[mask + 1];
+        for ( String name : names ) {
+            int slot = slotFor( name, mask );
+            if ( used[slot] ) {
+                return false;
+            }
+            used[slot] = true;
+        }
+        return true;
+    }
+
+    private static int slotFor( String name, int mask ) {
+        int h = name.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int tableSizeFor( int atLeast ) {
+        return Integer.highestOneBit( atLeast - 1 ) << 1;
+    }
+}
@@ -0,0 +1,35 @@
+package org.litesoft.fields;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Off-heap (direct <code>ByteBuffer</code>) store of fixed size records (see <code>RecordLayout</code>) of the (mutable) fields of a closed
+ * <code>FieldAccessors</code>; the records are outside the heap, so are not traced (or moved) by the GC.
+ * <p>
+ * Records are appended (the store growing a segment at a time, without copying), read back (whole or thru a flyweight <code>RecordView</code>),
+ * and updated in place. String fields require a max length (as each record has a fixed size).
+ * A store is NOT thread safe.
+ */
+@SuppressWarnings("unused")
+public final class OffHeapRecordStore<T> extends AbstractRecordStore<T> {
+    private static final int DEFAULT_SEGMENT_BYTES = 8 * 1024 * 1024;
+
+    public static <T> OffHeapRecordStore<T> of( FieldAccessors<T> fas ) {
+        RecordLayout<T> layout = new RecordLayout<>( fas, "OffHeapRecordStore" );
+        return new OffHeapRecordStore<>( layout, DEFAULT_SEGMENT_BYTES / layout.recordSize() );
+    }
+
+    public static <T> OffHeapRecordStore<T> of( FieldAccessors<T> fas, int recordsPerSegment ) {
+        return new OffHeapRecordStore<>( new RecordLayout<>( fas, "OffHeapRecordStore" ), recordsPerSegment );
+    }
+
+    private OffHeapRecordStore( RecordLayout<T> layout, int recordsPerSegment ) {
+        super( layout, recordsPerSegment );
+    }
+
+    @Override
+    ByteBuffer newSegment( int segment ) {
+        return ByteBuffer.allocateDirect( segmentBytes() ).order( ByteOrder.nativeOrder() );
+    }
+}
@@ -0,0 +1,56 @@
+package org.litesoft.fields;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Common base of the primitive (unboxed) Accessors: Int, Long, Double, and Boolean.
+ * <p>
+ * A primitive Accessor created without a setter is read only.
+ * <p>
+ * A primitive field can never be null, so unless a validator, normalizer, or max length was added, validation has nothing to check (and doesn't box).
+ */
+public abstract class PrimitiveAccessor<T, R> extends MutableAccessor<T, R> {
+    static final String ERROR_READ_ONLY_PREFIX = "Attempt to set a Read Only (no setter) primitive Accessor: ";
+
+    private final boolean readOnly;
+
+    /**
+     * @param unboxingSetter null -> read only (not mutable, and the set methods throw an Error)
+     */
+    protected PrimitiveAccessor( AccessorType accessorType, String name, Function<T, R> boxingAccessor, BiConsumer<T, R> unboxingSetter, Class<R> primitiveType ) {
+        super( accessorType, name, boxingAccessor, (unboxingSetter != null) ? unboxingSetter : readOnlySetter( name ) );
+        this.readOnly = (unboxingSetter == null);
+        withType( primitiveType );
+    }
+
+    /**
+     * @return null if read only (no setter), as then the Accessor is NOT mutable
+     */
+    @Override
+    public MutableAccessor<T, R> asMutable() {
+        return readOnly ? null : this;
+    }
+
+    protected Error readOnlyError() {
+        return new Error( ERROR_READ_ONLY_PREFIX + getName() );
+    }
+
+    @Override
+    public void validate( T instance ) {
+        if ( hasValueChecks() ) {
+            super.validate( instance );
+        }
+    }
+
+    @Override
+    public boolean validate( T instance, FieldErrorSink sink ) {
+        return (!hasValueChecks() && !validateOverridden()) || super.validate( instance, sink );
+    }
+
+    private static <T, R> BiConsumer<T, R> readOnlySetter( String name ) {
+        return ( instance, value ) -> {
+            throw new Error( ERROR_READ_ONLY_PREFIX + name );
+        };
+    }
+}
@@ -0,0 +1,258 @@
+package org.litesoft.fields;
+
+import java.nio.ByteBuffer;
+
+import org.litesoft.exceptions.ExceededMaxLengthException;
+import org.litesoft.utils.Cast;
+
+/**
+ * Fixed size binary record layout of the (mutable) fields of a closed <code>FieldAccessors</code>, shared by the record stores.
+ * <p>
+ * A record is a null bitmap (one bit per nullable, i.e. non-primitive, field) followed by each field at its computed offset (in add order):
+ * int 4 bytes, long & double 8, boolean 1, and String 2 (char count) + 2 * maxLength (UTF-16 chars), so a String field requires a max length.
+ * Any field can be read or written in place (at a record's base offset in a ByteBuffer) without touching the rest of the record.
+ */
+final class RecordLayout<T> {
+    static final String ERROR_CORRUPT_PREFIX = "Corrupt record, ";
+    static final String ERROR_NO_MUTABLE_FIELDS_SUFFIX = " requires at least one mutable field";
+    private static final int MAX_STRING_LENGTH = Short.MAX_VALUE;
+
+    private final MutableAccessor<T, ?>[] accessors;
+    private final FieldKind[] kinds;
+    private final int[] offsets;
+    private final int[] nullBits; // -1 for the primitive (never null) fields
+    private final int[] maxLengths; // Strings only
+    private final NameTable names;
+    private final int recordSize;
+
+    RecordLayout( FieldAccessors<T> fas, String user ) {
+        if ( !fas.isDone() ) {
+            throw new Error( FieldAccessors.ERROR_NOT_DONE );
+        }
+        accessors = fas.mutables();
+        if ( accessors.length == 0 ) { // an empty (zero size) record
+            throw new Error( user + ERROR_NO_MUTABLE_FIELDS_SUFFIX );
+        }
+        kinds = new FieldKind[accessors.length];
+        offsets = new int[accessors.length];
+        nullBits = new int[accessors.length];
+        maxLengths = new int[accessors.length];
+        String[] fieldNames = new String[accessors.length];
+        int nullables = 0;
+        for ( int i = 0; i < accessors.length; i++ ) {
+            MutableAccessor<T, ?> accessor = accessors[i];
+            fieldNames[i] = accessor.getName();
+            kinds[i] = FieldKind.required( accessor, user );
+            nullBits[i] = FieldKind.isPrimitive( accessor ) ? -1 : nullables++;
+            if ( kinds[i] == FieldKind.STRING ) {
+                Integer maxLength = accessor.getMaxLength();
+                if ( (maxLength == null) || (MAX_STRING_LENGTH < maxLength) ) {
+                    throw new Error( user + " requires String field '" + accessor.getName() + "' to have a max length of 1 thru " + MAX_STRING_LENGTH );
+                }
+                maxLengths[i] = maxLength;
+            }
+        }
+        int offset = (nullables + 7) >>> 3;
+        for ( int i = 0; i < accessors.length; i++ ) {
+            offsets[i] = offset;
+            offset += switch ( kinds[i] ) {
+                case INT -> 4;
+                case LONG, DOUBLE -> 8;
+                case BOOLEAN -> 1;
+                case STRING -> 2 + (2 * maxLengths[i]);
+            };
+        }
+        recordSize = offset;
+        names = new NameTable( fieldNames );
+    }
+
+    int recordSize() {
+        return recordSize;
+    }
+
+    int fieldCount() {
+        return accessors.length;
+    }
+
+    /**
+     * @return the field (index) of the named (mutable) field
+     */
+    int fieldIndex( String name ) {
+        int field = names.ordinalOf( name );
+        if ( field < 0 ) {
+            throw new Error( FieldAccessors.ERROR_ACCESSOR_NOT_FOUND_PREFIX + name );
+        }
+        return field;
+    }
+
+    /**
+     * @return a 64-bit FNV-1a hash of the field names, kinds, nullability, and offsets (to detect a changed layout)
+     */
+    long hash() {
+        long hash = FieldAccessors.FNV1A_OFFSET_BASIS;
+        for ( int i = 0; i < accessors.length; i++ ) {
+            hash = FieldAccessors.fnv1a( hash, accessors[i].getName() + ':' + kinds[i] + ':' + (nullBits[i] < 0) + ':' + offsets[i] + ';' );
+        }
+        return (hash ^ recordSize) * FieldAccessors.FNV1A_PRIME;
+    }
+
+    void write( ByteBuffer buffer, int base, T instance ) {
+        for ( int field = 0; field < accessors.length; field++ ) {
+            MutableAccessor<T, ?> accessor = accessors[field];
+            int at = base + offsets[field];
+            if ( nullBits[field] >= 0 ) {
+                setValue( buffer, base, field, accessor.getValue( instance ) );
+                continue;
+            }
+            switch ( kinds[field] ) {
+                case INT -> buffer.putInt( at, Cast.<IntAccessor<T>>it( accessor ).getInt( instance ) );
+                case LONG -> buffer.putLong( at, Cast.<LongAccessor<T>>it( accessor ).getLong( instance ) );
+                case DOUBLE -> buffer.putDouble( at, Cast.<DoubleAccessor<T>>it( accessor ).getDouble( instance ) );
+                case BOOLEAN -> buffer.put( at, (byte)(Cast.<BooleanAccessor<T>>it( accessor ).getBoolean( instance ) ? 1 : 0) );
+                default -> throw new Error( "Not a primitive kind: " + kinds[field] );
+            }
+        }
+    }
+
+    T read( ByteBuffer buffer, int base, T target ) {
+        for ( int field = 0; field < accessors.length; field++ ) {
+            MutableAccessor<T, Object> accessor = Cast.it( accessors[field] );
+            if ( nullBits[field] >= 0 ) {
+                accessor.setValue( target, getValue( buffer, base, field ) );
+                continue;
+            }
+            switch ( kinds[field] ) {
+                case INT -> Cast.<IntAccessor<T>>it( accessor ).setInt( target, getInt( buffer, base, field ) );
+                case LONG -> Cast.<LongAccessor<T>>it( accessor ).setLong( target, getLong( buffer, base, field ) );
+                case DOUBLE -> Cast.<DoubleAccessor<T>>it( accessor ).setDouble( target, getDouble( buffer, base, field ) );
+                case BOOLEAN -> Cast.<BooleanAccessor<T>>it( accessor ).setBoolean( target, getBoolean( buffer, base, field ) );
+                default -> throw new Error( "Not a primitive kind: " + kinds[field] );
+            }
+        }
+        return target;
+    }
+
+    boolean isNull( ByteBuffer buffer, int base, int field ) {
+        int bit = nullBits[field];
+        return (bit >= 0) && ((buffer.get( base + (bit >>> 3) ) & (1 << (bit & 7))) != 0);
+    }
+
+    Object getValue( ByteBuffer buffer, int base, int field ) {
+        if ( isNull( buffer, base, field ) ) {
+            return null;
+        }
+        return switch ( kinds[field] ) {
+            case INT -> getInt( buffer, base, field );
+            case LONG -> getLong( buffer, base, field );
+            case DOUBLE -> getDouble( buffer, base, field );
+            case BOOLEAN -> getBoolean( buffer, base, field );
+            case STRING -> getString( buffer, base, field );
+        };
+    }
+
+    void setValue( ByteBuffer buffer, int base, int field, Object value ) {
+        if ( value == null ) {
+            if ( nullBits[field] < 0 ) {
+                throw new IllegalArgumentException( "null not allowed for primitive field: " + accessors[field].getName() );
+            }
+            setNull( buffer, base, field, true );
+            return;
+        }
+        switch ( kinds[field] ) {
+            case INT -> setInt( buffer, base, field, (Integer)value );
+            case LONG -> setLong( buffer, base, field, (Long)value );
+            case DOUBLE -> setDouble( buffer, base, field, (Double)value );
+            case BOOLEAN -> setBoolean( buffer, base, field, (Boolean)value );
+            case STRING -> setString( buffer, base, field, (String)value );
+        }
+    }
+
+    int getInt( ByteBuffer buffer, int base, int field ) {
+        return buffer.getInt( base + checkKind( field, FieldKind.INT ) );
+    }
+
+    long getLong( ByteBuffer buffer, int base, int field ) {
+        return buffer.getLong( base + checkKind( field, FieldKind.LONG ) );
+    }
+
+    double getDouble( ByteBuffer buffer, int base, int field ) {
+        return buffer.getDouble( base + checkKind( field, FieldKind.DOUBLE ) );
+    }
+
+    boolean getBoolean( ByteBuffer buffer, int base, int field ) {
+        return buffer.get( base + checkKind( field, FieldKind.BOOLEAN ) ) != 0;
+    }
+
+    String getString( ByteBuffer buffer, int base, int field ) {
+        if ( isNull( buffer, base, field ) ) {
+            return null;
+        }
+        int at = base + checkKind( field, FieldKind.STRING );
+        int length = buffer.getShort( at );
+        if ( (length < 0) || (maxLengths[field] < length) ) { // e.g. a corrupt (or foreign) mapped file
+            throw new IllegalStateException( ERROR_CORRUPT_PREFIX + "field '" + accessors[field].getName() + "' length of: " + length );
+        }
+        char[] chars = new char[length];
+        for ( int i = 0; i < length; i++ ) {
+            chars[i] = buffer.getChar( at + 2 + (2 * i) );
+        }
+        return new String( chars );
+    }
+
+    void setInt( ByteBuffer buffer, int base, int field, int value ) {
+        buffer.putInt( base + checkKind( field, FieldKind.INT ), value );
+        setNull( buffer, base, field, false );
+    }
+
+    void setLong( ByteBuffer buffer, int base, int field, long value ) {
+        buffer.putLong( base + checkKind( field, FieldKind.LONG ), value );
+        setNull( buffer, base, field, false );
+    }
+
+    void setDouble( ByteBuffer buffer, int base, int field, double value ) {
+        buffer.putDouble( base + checkKind( field, FieldKind.DOUBLE ), value );
+        setNull( buffer, base, field, false );
+    }
+
+    void setBoolean( ByteBuffer buffer, int base, int field, boolean value ) {
+        buffer.put( base + checkKind( field, FieldKind.BOOLEAN ), (byte)(value ? 1 : 0) );
+        setNull( buffer, base, field, false );
+    }
+
+    void setString( ByteBuffer buffer, int base, int field, String value ) {
+        if ( value == null ) {
+            setValue( buffer, base, field, null );
+            return;
+        }
+        int at = base + checkKind( field, FieldKind.STRING );
+        int length = value.length();
+        if ( length > maxLengths[field] ) {
+            throw new ExceededMaxLengthException( maxLengths[field], length );
+        }
+        buffer.putShort( at, (short)length );
+        for ( int i = 0; i < length; i++ ) {
+            buffer.putChar( at + 2 + (2 * i), value.charAt( i ) );
+        }
+        setNull( buffer, base, field, false );
+    }
+
+    private void setNull( ByteBuffer buffer, int base, int field, boolean isNull ) {
+        int bit = nullBits[field];
+        if ( bit >= 0 ) {
+            int at = base + (bit >>> 3);
+            int mask = 1 << (bit & 7);
+            byte bits = buffer.get( at );
+            buffer.put( at, (byte)(isNull ? (bits | mask) : (bits & ~mask)) );
+        }
+    }
+
+    /**
+     * @return the field's offset (within the record)
+     */
+    private int checkKind( int field, FieldKind expected ) {
+        if ( kinds[field] != expected ) {
+            throw new Error( "Field '" + accessors[field].getName() + "' is a " + kinds[field] + ", not a " + expected );
+        }
+        return offsets[field];
+    }
+}
@@ -0,0 +1,113 @@
+package org.litesoft.fields;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Flyweight view of a single record of a record store (e.g. <code>OffHeapRecordStore</code>), reading and writing the record's fields in place
+ * (without deserializing the whole record).
+ * <p>
+ * The fields are addressed by their field index (see <code>fieldIndex( name )</code>); the typed getters of a null (boxed) field return the zero value.
+ * A view is cheap, reusable (see <code>moveTo</code>), and NOT thread safe.
+ */
+@SuppressWarnings("unused")
+public final class RecordView<T> {
+    private final AbstractRecordStore<T> store;
+    private final RecordLayout<T> layout;
+    private int index;
+    private ByteBuffer segment; // segments are never replaced, so safe to hold
+    private int base;
+
+    RecordView( AbstractRecordStore<T> store, int index ) {
+        this.store = store;
+        this.layout = store.layout;
+        moveTo( index );
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public RecordView<T> moveTo( int index ) {
+        segment = store.segmentOf( store.checkIndex( index ) );
+        base = store.offsetOf( index );
+        this.index = index;
+        return this;
+    }
+
+    public int fieldIndex( String name ) {
+        return layout.fieldIndex( name );
+    }
+
+    public boolean isNull( int field ) {
+        return layout.isNull( segment, base, field );
+    }
+
+    public Object getValue( String name ) {
+        return layout.getValue( segment, base, fieldIndex( name ) );
+    }
+
+    public Object getValue( int field ) {
+        return layout.getValue( segment, base, field );
+    }
+
+    public int getInt( int field ) {
+        return layout.getInt( segment, base, field );
+    }
+
+    public long getLong( int field ) {
+        return layout.getLong( segment, base, field );
+    }
+
+    public double getDouble( int field ) {
+        return layout.getDouble( segment, base, field );
+    }
+
+    public boolean getBoolean( int field ) {
+        return layout.getBoolean( segment, base, field );
+    }
+
+    public String getString( int field ) {
+        return layout.getString( segment, base, field );
+    }
+
+    public RecordView<T> setValue( String name, Object value ) {
+        return setValue( fieldIndex( name ), value );
+    }
+
+    public RecordView<T> setValue( int field, Object value ) {
+        layout.setValue( segment, base, field, value );
+        return this;
+    }
+
+    public RecordView<T> setInt( int field, int value ) {
+        layout.setInt( segment, base, field, value );
+        return this;
+    }
+
+    public RecordView<T> setLong( int field, long value ) {
+        layout.setLong( segment, base, field, value );
+        return this;
+    }
+
+    public RecordView<T> setDouble( int field, double value ) {
+        layout.setDouble( segment, base, field, value );
+        return this;
+    }
+
+    public RecordView<T> setBoolean( int field, boolean value ) {
+        layout.setBoolean( segment, base, field, value );
+        return this;
+    }
+
+    public RecordView<T> setString( int field, String value ) {
+        layout.setString( segment, base, field, value );
+        return this;
+    }
+
+    /**
+     * Set the (mutable) fields of the <code>target</code> from the record.
+     */
+    public T materialize( T target ) {
+        return layout.read( segment, base, target );
+    }
+}
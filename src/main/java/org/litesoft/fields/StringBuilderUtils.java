@@ -1,10 +1,13 @@
 package org.litesoft.fields;
 
 public class StringBuilderUtils {
+    private static final String SPACES = " ".repeat( 64 ); // precomputed padding, appended in slices
 
     public static void addIndentation( StringBuilder sb, int indentation ) {
-        while ( 0 <= --indentation ) {
-            sb.append( ' ' );
+        while ( indentation > 0 ) {
+            int slice = Math.min( indentation, SPACES.length() );
+            sb.append( SPACES, 0, slice );
+            indentation -= slice;
         }
     }
 
@@ -12,15 +15,11 @@ public class StringBuilderUtils {
         if ( o == null ) {
             sb.append( "null" );
         } else if ( o instanceof String ) {
-            wrap( o, '"', sb );
+            sb.append( '"' ).append( (String)o ).append( '"' );
         } else if ( o instanceof Character ) {
-            wrap( o, '\'', sb );
+            sb.append( '\'' ).append( ((Character)o).charValue() ).append( '\'' );
         } else {
             sb.append( o );
         }
     }
-
-    private static void wrap( Object o, char with, StringBuilder sb ) {
-        sb.append( with ).append( o ).append( with );
-    }
 }
@@ -1,26 +1,128 @@
 package org.litesoft.fields;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.List;
 
 import static org.litesoft.fields.StringBuilderUtils.addIndentation;
 import static org.litesoft.fields.StringBuilderUtils.addQuotedTo;
 
+/**
+ * Builds the indented "name: value" lines form of an object's fields.
+ * <p>
+ * By default, the lines are accumulated (and retrieved via <code>toString()</code>).
+ * If an <code>Appendable</code> (e.g. a <code>Writer</code> or a logging buffer) is provided, then the builder is streaming,
+ * and each field is written to the <code>Appendable</code> as soon as it is added (the prefix line, if any, on construction),
+ * so nothing beyond the current field is buffered (and <code>toString()</code> returns an empty String).
+ * <p>
+ * A builder can be reused (e.g. on a hot logging path) via <code>reset()</code> or <code>reset( Appendable )</code>,
+ * or borrowed from (and returned to) a small per thread pool via <code>acquire(...)</code> and <code>release()</code>.
+ */
 @SuppressWarnings({"unused", "UnusedReturnValue"})
 public class ToStringBuilder {
     private static final int INDENT_SIZE = 2;
+    private static final int MAX_POOLED_PER_THREAD = 4; // allows for a few nested (e.g. an Indentable's toString) acquisitions
+    private static final int MAX_POOLED_CAPACITY = 16 * 1024; // larger builders are left to the GC, rather than pinning their memory
+    private static final ThreadLocal<Pool> POOL = ThreadLocal.withInitial( Pool::new );
+
     private final StringBuilder sb = new StringBuilder();
-    private final String prefix;
+    private String prefix;
+    private boolean pooled;
+    private Appendable out; // null == NOT streaming
+    private char[] writerChunk; // lazily created, only used when streaming to a Writer
+    private int headerLength;
+    private boolean fieldAdded;
     private int indent;
 
+    public ToStringBuilder( String prefix, Appendable out ) {
+        this.prefix = normalizePrefix( prefix );
+        reset( out );
+    }
+
     public ToStringBuilder( String prefix ) {
-        this.prefix = (prefix == null) ? "" : prefix.trim();
-        indent = this.prefix.isEmpty() ? 0 : INDENT_SIZE;
+        this( prefix, null );
     }
 
     public ToStringBuilder() {
         this( null );
     }
 
+    /**
+     * Borrow a (reset) builder from the current thread's pool; must be returned via <code>release()</code>, after which it must NOT be used.
+     */
+    public static ToStringBuilder acquire() {
+        return acquire( null, null );
+    }
+
+    public static ToStringBuilder acquire( String prefix ) {
+        return acquire( prefix, null );
+    }
+
+    public static ToStringBuilder acquire( String prefix, Appendable out ) {
+        ToStringBuilder builder = POOL.get().take();
+        if ( builder == null ) {
+            builder = new ToStringBuilder( prefix, out );
+        } else {
+            builder.prefix = normalizePrefix( prefix );
+            builder.reset( out );
+        }
+        builder.pooled = true;
+        return builder;
+    }
+
+    /**
+     * Render the <code>instance</code>'s fields with a pooled builder.
+     */
+    public static <T> String build( T instance, FieldAccessors<T> fas ) {
+        return acquire().addAll( instance, fas ).release();
+    }
+
+    /**
+     * Return an acquired builder to the current thread's pool.
+     *
+     * @return the result of <code>toString()</code> (prior to the release)
+     */
+    public String release() {
+        if ( !pooled ) {
+            throw new IllegalStateException( "ToStringBuilder not acquired (or already released)" );
+        }
+        String result = toString();
+        pooled = false;
+        out = null;
+        writerChunk = null;
+        if ( sb.capacity() <= MAX_POOLED_CAPACITY ) {
+            POOL.get().give( this );
+        }
+        return result;
+    }
+
+    public boolean isStreaming() {
+        return (out != null);
+    }
+
+    /**
+     * Clear the builder for reuse (keeping the prefix and the current streaming target, if any).
+     */
+    public ToStringBuilder reset() {
+        return reset( out );
+    }
+
+    /**
+     * Clear the builder for reuse (keeping the prefix), and switch to streaming to <code>out</code> (or accumulating, if <code>out</code> is null).
+     */
+    public ToStringBuilder reset( Appendable out ) {
+        this.out = out;
+        sb.setLength( 0 );
+        fieldAdded = false;
+        indent = prefix.isEmpty() ? 0 : INDENT_SIZE;
+        if ( !prefix.isEmpty() ) {
+            sb.append( prefix ).append( ":\n" );
+        }
+        headerLength = sb.length();
+        return flushIfStreaming();
+    }
+
     public ToStringBuilder indent() {
         indent += INDENT_SIZE;
         return this;
@@ -34,28 +136,60 @@ public class ToStringBuilder {
     }
 
     public ToStringBuilder add( String name, Object value ) {
-        if ( !sb.isEmpty() ) {
-            sb.append( "\n" );
-        }
-        addIndentation( sb, indent );
-        sb.append( name ).append( ":" );
+        addName( name );
         if ( value instanceof Indentable ) {
+            flushIfStreaming();
             indent();
             ((Indentable)value).addFieldsTo( this );
             outdent();
         } else {
             addQuotedTo( sb.append( ' ' ), value );
         }
-        return this;
+        return flushIfStreaming();
+    }
+
+    public ToStringBuilder add( String name, int value ) {
+        addName( name ).append( ' ' ).append( value );
+        return flushIfStreaming();
+    }
+
+    public ToStringBuilder add( String name, long value ) {
+        addName( name ).append( ' ' ).append( value );
+        return flushIfStreaming();
+    }
+
+    public ToStringBuilder add( String name, char value ) {
+        addName( name ).append( " '" ).append( value ).append( '\'' );
+        return flushIfStreaming();
+    }
+
+    public ToStringBuilder add( String name, float value ) {
+        addName( name ).append( ' ' ).append( value );
+        return flushIfStreaming();
+    }
+
+    public ToStringBuilder add( String name, double value ) {
+        addName( name ).append( ' ' ).append( value );
+        return flushIfStreaming();
+    }
+
+    public ToStringBuilder add( String name, boolean value ) {
+        addName( name ).append( ' ' ).append( value );
+        return flushIfStreaming();
     }
 
     @SuppressWarnings("UnusedReturnValue")
     public <T> ToStringBuilder add( T instance, Accessor<T, ?> fa ) {
-        return (fa == null) ? this : add( fa.getName(), fa.getValue( instance ) );
+        return (fa == null) ? this : fa.addValueTo( this, instance );
     }
 
     public <T> ToStringBuilder addAll( T instance, FieldAccessors<T> fas ) {
-        return ((instance == null) || (fas == null)) ? this : addAll( instance, fas.getAll() );
+        if ( (instance != null) && (fas != null) ) {
+            for ( Accessor<T, ?> fa : fas.accessors() ) {
+                fa.addValueTo( this, instance );
+            }
+        }
+        return this;
     }
 
     public <T> ToStringBuilder addAll( T instance, List<Accessor<T, ?>> fas ) {
@@ -67,9 +201,77 @@ public class ToStringBuilder {
         return this;
     }
 
+    private StringBuilder addName( String name ) {
+        if ( fieldAdded ) {
+            sb.append( "\n" );
+        }
+        fieldAdded = true;
+        addIndentation( sb, indent );
+        return sb.append( name ).append( ":" );
+    }
+
+    private ToStringBuilder flushIfStreaming() {
+        if ( (out != null) && !sb.isEmpty() ) {
+            try {
+                if ( out instanceof StringBuilder ) {
+                    ((StringBuilder)out).append( sb );
+                } else if ( out instanceof Writer ) {
+                    writeChunked( (Writer)out );
+                } else {
+                    out.append( sb );
+                }
+            }
+            catch ( IOException e ) {
+                throw new UncheckedIOException( e );
+            }
+            sb.setLength( 0 );
+        }
+        return this;
+    }
+
+    private void writeChunked( Writer writer )
+            throws IOException {
+        int length = sb.length();
+        if ( (writerChunk == null) || (writerChunk.length < length) ) {
+            writerChunk = new char[Math.max( 256, length )];
+        }
+        sb.getChars( 0, length, writerChunk, 0 );
+        writer.write( writerChunk, 0, length );
+    }
+
+    private static String normalizePrefix( String prefix ) {
+        return (prefix == null) ? "" : prefix.trim();
+    }
+
+    private static class Pool {
+        private final ToStringBuilder[] available = new ToStringBuilder[MAX_POOLED_PER_THREAD];
+        private int count;
+
+        ToStringBuilder take() {
+            if ( count == 0 ) {
+                return null;
+            }
+            ToStringBuilder builder = available[--count];
+            available[count] = null;
+            return builder;
+        }
+
+        void give( ToStringBuilder builder ) {
+            if ( count < available.length ) {
+                available[count++] = builder;
+            }
+        }
+    }
+
     @Override
     public String toString() {
-        return (indent <= 0) ? sb.toString() :
-               (prefix.trim() + ":\n" + sb);
+        if ( out != null ) {
+            return "";
+        }
+        boolean showPrefix = (indent > 0);
+        if ( showPrefix == (headerLength != 0) ) {
+            return sb.toString();
+        }
+        return showPrefix ? (prefix + ":\n" + sb) : sb.substring( headerLength );
     }
 }
@@ -0,0 +1,81 @@
+package org.litesoft.fields;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Allocation free UTF-8 sizing and encoding of CharSequences (directly into a ByteBuffer); unpaired surrogates are encoded as '?' (as <code>String.getBytes</code> does).
+ */
+final class Utf8 {
+    private Utf8() {
+    }
+
+    static int length( CharSequence chars ) {
+        int length = chars.length();
+        int bytes = 0;
+        for ( int i = 0; i < length; i++ ) {
+            char c = chars.charAt( i );
+            if ( c < 0x80 ) {
+                bytes++;
+            } else if ( c < 0x800 ) {
+                bytes += 2;
+            } else if ( isPairStart( chars, i, length, c ) ) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += Character.isSurrogate( c ) ? 1 : 3;
+            }
+        }
+        return bytes;
+    }
+
+    static void encode( CharSequence chars, ByteBuffer out ) {
+        encode( chars, 0, chars.length(), out );
+    }
+
+    /**
+     * Encode the <code>chars</code> from <code>start</code> (inclusive) to <code>end</code> (exclusive).
+     */
+    static void encode( CharSequence chars, int start, int end, ByteBuffer out ) {
+        for ( int i = start; i < end; i++ ) {
+            char c = chars.charAt( i );
+            if ( c < 0x80 ) {
+                out.put( (byte)c );
+            } else if ( c < 0x800 ) {
+                out.put( (byte)(0xC0 | (c >> 6)) ).put( (byte)(0x80 | (c & 0x3F)) );
+            } else if ( isPairStart( chars, i, end, c ) ) {
+                int codePoint = Character.toCodePoint( c, chars.charAt( ++i ) );
+                out.put( (byte)(0xF0 | (codePoint >> 18)) ).put( (byte)(0x80 | ((codePoint >> 12) & 0x3F)) )
+                        .put( (byte)(0x80 | ((codePoint >> 6) & 0x3F)) ).put( (byte)(0x80 | (codePoint & 0x3F)) );
+            } else if ( Character.isSurrogate( c ) ) {
+                out.put( (byte)'?' );
+            } else {
+                out.put( (byte)(0xE0 | (c >> 12)) ).put( (byte)(0x80 | ((c >> 6) & 0x3F)) ).put( (byte)(0x80 | (c & 0x3F)) );
+            }
+        }
+    }
+
+    /**
+     * Decode (and consume) <code>byteLength</code> bytes of <code>in</code>.
+     */
+    static String decode( ByteBuffer in, int byteLength ) {
+        if ( byteLength > in.remaining() ) {
+            throw new BufferUnderflowException();
+        }
+        String result;
+        if ( in.hasArray() ) {
+            result = new String( in.array(), in.arrayOffset() + in.position(), byteLength, StandardCharsets.UTF_8 );
+            in.position( in.position() + byteLength );
+        } else {
+            byte[] bytes = new byte[byteLength];
+            in.get( bytes );
+            result = new String( bytes, StandardCharsets.UTF_8 );
+        }
+        return result;
+    }
+
+    private static boolean isPairStart( CharSequence chars, int i, int end, char c ) {
+        return Character.isHighSurrogate( c ) && ((i + 1) < end) && Character.isLowSurrogate( chars.charAt( i + 1 ) );
+    }
+}
@@ -0,0 +1,49 @@
+package org.litesoft.fields;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for the validation of an instance by a <code>FieldAccessors</code> (enabled, and only recorded if at least 1 ms, by default);
+ * like any JFR event, it is configured thru the standard settings, e.g. <code>org.litesoft.fields.Validation#threshold=0 ms</code>.
+ */
+@Name(ValidationEvent.NAME)
+@Label("Field Validation")
+@Category({"LiteSoft", "Object Fields"})
+@Description("Validation of an instance by a FieldAccessors")
+@StackTrace(false)
+@Threshold("1 ms")
+final class ValidationEvent extends jdk.jfr.Event {
+    static final String NAME = "org.litesoft.fields.Validation";
+    private static final EventType TYPE = eventType();
+
+    @Label("Type")
+    String typeName;
+
+    @Label("Field Count")
+    int fieldCount;
+
+    @Label("Error Count")
+    int errorCount;
+
+    /**
+     * @return true if any (running) recording has this event enabled (checked before creating the event, so nothing is allocated otherwise)
+     */
+    static boolean enabled() {
+        return (TYPE != null) && TYPE.isEnabled();
+    }
+
+    private static EventType eventType() {
+        try {
+            return EventType.getEventType( ValidationEvent.class );
+        }
+        catch ( RuntimeException e ) { // JFR not available in this JVM
+            return null;
+        }
+    }
+}
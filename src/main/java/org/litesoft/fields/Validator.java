@@ -4,14 +4,57 @@ import java.util.function.Consumer;
 
 import org.litesoft.annotations.NotNull;
 import org.litesoft.annotations.Significant;
+import org.litesoft.utils.TemplatedMessage;
+import org.litesoft.utils.TemplatedMessageException;
 
+/**
+ * A named (cross field) validation, either exception based (a <code>Consumer</code> that throws), or reporting based (a <code>Reporter</code>).
+ * <p>
+ * Either form can be used via either <code>validate</code> method, the other form being adapted.
+ */
 public class Validator<T> implements Consumer<T> {
+    /**
+     * Reporting (non-throwing) validation implementation.
+     */
+    @FunctionalInterface
+    public interface Reporter<T> {
+        /**
+         * @return true if valid, false if any errors were added to the <code>sink</code>
+         */
+        boolean validate( T t, FieldErrorSink sink );
+    }
+
+    /**
+     * Per (sub)class, if <code>validate( t )</code> is overridden, see <code>validate( t, sink )</code>.
+     */
+    private static final ClassValue<Boolean> VALIDATE_OVERRIDDEN = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue( Class<?> type ) {
+            try {
+                return type.getMethod( "validate", Object.class ).getDeclaringClass() != Validator.class;
+            }
+            catch ( NoSuchMethodException e ) {
+                throw new Error( e );
+            }
+        }
+    };
+
     private final String name;
     private final Consumer<T> validationImplementation;
+    private final Reporter<T> reportingImplementation;
 
     public Validator( String name, Consumer<T> validationImplementation ) {
+        this( name, NotNull.AssertArgument.namedValue( "validationImplementation", validationImplementation ), null );
+    }
+
+    public static <T> Validator<T> reporting( String name, Reporter<T> reportingImplementation ) {
+        return new Validator<>( name, null, NotNull.AssertArgument.namedValue( "reportingImplementation", reportingImplementation ) );
+    }
+
+    private Validator( String name, Consumer<T> validationImplementation, Reporter<T> reportingImplementation ) {
         this.name = Significant.AssertArgument.namedValue( "name", name );
-        this.validationImplementation = NotNull.AssertArgument.namedValue( "validationImplementation", validationImplementation );
+        this.validationImplementation = validationImplementation;
+        this.reportingImplementation = reportingImplementation;
     }
 
     public String getName() {
@@ -19,7 +62,44 @@ public class Validator<T> implements Consumer<T> {
     }
 
     public void validate( T t ) {
-        validationImplementation.accept( t );
+        if ( reportingImplementation == null ) {
+            validationImplementation.accept( t );
+            return;
+        }
+        TemplatedMessage[] first = {null};
+        reportingImplementation.validate( t, ( fieldName, templatedMessage ) -> {
+            if ( first[0] == null ) {
+                first[0] = templatedMessage;
+            }
+        } );
+        if ( first[0] != null ) {
+            throw new TemplatedMessageException( first[0].getFmtString(), first[0].getIndexedFmtData() );
+        }
+    }
+
+    /**
+     * Validate without throwing, any problem is reported to the <code>sink</code> (exceptions, from either form, under the validator's name).
+     * <p>
+     * If a subclass overrides <code>validate( t )</code>, this dispatches thru it (adapting its exceptions), so the override is still honored.
+     *
+     * @return true if valid
+     */
+    public boolean validate( T t, FieldErrorSink sink ) {
+        try {
+            if ( VALIDATE_OVERRIDDEN.get( getClass() ) ) {
+                validate( t );
+                return true;
+            }
+            if ( reportingImplementation != null ) {
+                return reportingImplementation.validate( t, sink );
+            }
+            validationImplementation.accept( t );
+            return true;
+        }
+        catch ( RuntimeException e ) {
+            sink.add( name, e );
+            return false;
+        }
     }
 
     @Override
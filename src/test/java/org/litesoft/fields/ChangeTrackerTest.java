@@ -0,0 +1,99 @@
+package org.litesoft.fields;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeTrackerTest {
+
+    Gauge gauge = new Gauge( "boiler", 98.6, 3 );
+
+    @Test
+    void test_change_tracking() {
+        ChangeTracker<Gauge> tracker = Gauge.FAS.track( gauge );
+        assertSame( gauge, tracker.getInstance() );
+        assertFalse( tracker.isChanged() );
+        assertEquals( List.of(), tracker.getChanges() );
+
+        tracker.setValue( "reading", 99.1 ).setValue( 2, 5 ).setValue( "reading", 99.2 ).setValue( "label", "boiler" );
+        assertTrue( tracker.isChanged() );
+        assertArrayEquals( new int[]{0, 1, 2}, tracker.getChangedOrdinals() );
+        assertEquals( 5, gauge.getCount() );
+        assertEquals( List.of( new FieldChange( "reading", 98.6, 99.2 ),
+                               new FieldChange( "count", 3, 5 ) ), tracker.getChanges() ); // label set to its original value
+
+        tracker.setValue( "count", 3 ); // back to its original value
+        assertTrue( tracker.isChanged( 2 ) );
+        assertEquals( List.of( new FieldChange( "reading", 98.6, 99.2 ) ), tracker.getChanges() );
+
+        assertFalse( tracker.reset().isChanged( 1 ) );
+        assertEquals( List.of(), tracker.getChanges() );
+    }
+
+    @Test
+    void test_only_tracker_writes_are_tracked() {
+        ChangeTracker<Gauge> tracker = Gauge.FAS.track( gauge );
+        gauge.setCount( 7 );
+        Gauge.FAS.setValue( gauge, "reading", 1.0 );
+        assertFalse( tracker.isChanged() );
+        assertEquals( List.of(), tracker.getChanges() );
+    }
+
+    @Test
+    void test_errors() {
+        ChangeTracker<Gauge> tracker = Gauge.FAS.track( gauge );
+        assertThrows( Error.class, () -> tracker.setValue( "missing", 1 ) );
+        assertThrows( Error.class, () -> tracker.setValue( "id", "X" ) ); // read only
+        assertFalse( tracker.isChanged() );
+        assertThrows( Error.class, () -> Gauge.FAS.track( null ) );
+    }
+
+    private static final class Gauge {
+        static final FieldAccessors<Gauge> FAS = FieldAccessors.of( Gauge.class )
+                .optional( "label", Gauge::getLabel, Gauge::setLabel ).withType( String.class )
+                .optionalDouble( "reading", Gauge::getReading, Gauge::setReading )
+                .requiredInt( "count", Gauge::getCount, Gauge::setCount )
+                .optional( "id", Gauge::getId ).withType( String.class )
+                .done();
+
+        private String label;
+        private double reading;
+        private int count;
+
+        private Gauge( String label, double reading, int count ) {
+            this.label = label;
+            this.reading = reading;
+            this.count = count;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel( String label ) {
+            this.label = label;
+        }
+
+        public double getReading() {
+            return reading;
+        }
+
+        public void setReading( double reading ) {
+            this.reading = reading;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount( int count ) {
+            this.count = count;
+        }
+
+        public String getId() {
+            return "G-" + label;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package org.litesoft.fields;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.litesoft.exceptions.ExceededMaxLengthException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodecsTest {
+    static final BinaryCodec<Sample> BINARY = BinaryCodec.of( Sample.FAS );
+    static final JsonCodec<Sample> JSON = JsonCodec.of( Sample.FAS );
+
+    Sample sample = new Sample( -3, 1234567890123L, 0.25, true, "Fred", "Caf\u00e9 \ud83d\ude00", 42 );
+    Sample empty = new Sample( 0, null, 0, false, "", null, null );
+
+    @Test
+    void test_binary_round_trip() {
+        for ( Sample instance : new Sample[]{sample, empty} ) {
+            byte[] bytes = BINARY.encode( instance );
+            assertEquals( BINARY.encodedSize( instance ), bytes.length );
+            assertEquals( instance, BINARY.decode( bytes, new Sample() ) );
+        }
+        assertEquals( 1 + 1 + 8 + 1 + 1, BINARY.encodedSize( empty ) ); // bitmap, id, ratio, active, name (the nulls are only in the bitmap)
+
+        ByteBuffer direct = ByteBuffer.allocateDirect( 256 );
+        BINARY.encode( sample, direct );
+        BINARY.encode( empty, direct );
+        direct.flip();
+        assertEquals( sample, BINARY.decode( direct, new Sample() ) );
+        assertEquals( empty, BINARY.decode( direct, new Sample() ) );
+        assertFalse( direct.hasRemaining() );
+    }
+
+    @Test
+    void test_binary_problems() {
+        Sample tooLong = new Sample( 1, null, 0, false, "Fred Flintstone", null, null );
+        assertThrows( ExceededMaxLengthException.class, () -> BINARY.encode( tooLong ) );
+
+        ByteBuffer shared = BINARY.encode( sample, ByteBuffer.allocate( 256 ) ); // already holds a record
+        int position = shared.position();
+        assertThrows( ExceededMaxLengthException.class, () -> BINARY.encode( tooLong, shared ) );
+        assertEquals( position, shared.position() ); // partial encoding dropped
+        BINARY.encode( empty, shared ).flip();
+        assertEquals( sample, BINARY.decode( shared, new Sample() ) );
+        assertEquals( empty, BINARY.decode( shared, new Sample() ) );
+        assertFalse( shared.hasRemaining() );
+
+        byte[] bytes = BINARY.encode( sample );
+        bytes[17] = 127; // the name's length (after the bitmap, id, count, ratio & active)
+        assertThrows( IllegalStateException.class, () -> BINARY.decode( bytes, new Sample() ) );
+
+        assertThrows( Error.class, () -> BinaryCodec.of( FieldAccessors.of( Sample.class ) ) ); // not done
+    }
+
+    @Test
+    void test_json_round_trip() {
+        String json = JSON.toJson( sample );
+        assertEquals( "{\"id\":-3,\"count\":1234567890123,\"ratio\":0.25,\"active\":true,\"name\":\"Fred\"," +
+                      "\"note\":\"Caf\u00e9 \ud83d\ude00\",\"score\":42,\"summary\":\"Fred#-3\"}", json );
+        assertEquals( sample, JSON.read( json, new Sample() ) );
+        assertEquals( "{\"id\":0,\"count\":null,\"ratio\":0.0,\"active\":false,\"name\":\"\",\"note\":null,\"score\":null,\"summary\":\"#0\"}",
+                      JSON.toJson( empty ) );
+
+        Sample tricky = new Sample( Integer.MIN_VALUE, Long.MIN_VALUE, Double.NaN, false, "a\"b\\c", "line1\nline2\t\u0001", null );
+        assertEquals( tricky, JSON.read( JSON.toJson( tricky ), new Sample() ) );
+
+        ByteBuffer buffer = JSON.write( tricky, ByteBuffer.allocate( 256 ) ).flip();
+        assertEquals( JSON.toJson( tricky ), StandardCharsets.UTF_8.decode( buffer.duplicate() ).toString() );
+        assertEquals( tricky, JSON.read( buffer, new Sample() ) );
+    }
+
+    @Test
+    void test_json_reading() {
+        Sample read = JSON.read( " { \"n\\u0061me\" : \"Wilma\", \"extra\": {\"a\": [1, \"]\", {}]}, \"id\": 7,\n" +
+                                 "\"summary\": \"ignored\", \"ratio\": -1.5e2, \"count\": null, \"more\": [] } ", new Sample() );
+        assertEquals( new Sample( 7, null, -150.0, false, "Wilma", null, null ), read );
+        assertEquals( new Sample(), JSON.read( "{}", new Sample() ) );
+
+        assertThrows( IllegalStateException.class, () -> JSON.read( "{\"id\": null}", new Sample() ) ); // primitive
+        assertThrows( IllegalStateException.class, () -> JSON.read( "{\"id\": 3000000000}", new Sample() ) );
+        assertThrows( IllegalStateException.class, () -> JSON.read( "{\"id\": 1.5}", new Sample() ) );
+        assertThrows( IllegalStateException.class, () -> JSON.read( "{\"name\": \"Fred}", new Sample() ) );
+        assertThrows( IllegalStateException.class, () -> JSON.read( "{\"name\": \"Fred\"} x", new Sample() ) );
+    }
+
+    static final class Sample {
+        static final FieldAccessors<Sample> FAS = FieldAccessors.of( Sample.class )
+                .requiredInt( "id", Sample::getId, Sample::setId )
+                .optional( "count", Sample::getCount, Sample::setCount ).withType( Long.class )
+                .optionalDouble( "ratio", Sample::getRatio, Sample::setRatio )
+                .optionalBoolean( "active", Sample::isActive, Sample::setActive )
+                .required( "name", Sample::getName, Sample::setName ).withType( String.class ).addMaxLength( 10 )
+                .optional( "note", Sample::getNote, Sample::setNote ).withType( String.class )
+                .optional( "score", Sample::getScore, Sample::setScore ).withType( Integer.class )
+                .auto( "summary", Sample::getSummary ).withType( String.class )
+                .done();
+
+        private int id;
+        private Long count;
+        private double ratio;
+        private boolean active;
+        private String name;
+        private String note;
+        private Integer score;
+
+        Sample() {
+        }
+
+        Sample( int id, Long count, double ratio, boolean active, String name, String note, Integer score ) {
+            this.id = id;
+            this.count = count;
+            this.ratio = ratio;
+            this.active = active;
+            this.name = name;
+            this.note = note;
+            this.score = score;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId( int id ) {
+            this.id = id;
+        }
+
+        public Long getCount() {
+            return count;
+        }
+
+        public void setCount( Long count ) {
+            this.count = count;
+        }
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public void setRatio( double ratio ) {
+            this.ratio = ratio;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive( boolean active ) {
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName( String name ) {
+            this.name = name;
+        }
+
+        public String getNote() {
+            return note;
+        }
+
+        public void setNote( String note ) {
+            this.note = note;
+        }
+
+        public Integer getScore() {
+            return score;
+        }
+
+        public void setScore( Integer score ) {
+            this.score = score;
+        }
+
+        public String getSummary() {
+            return name + "#" + id;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder().addAll( this, FAS ).toString();
+        }
+
+        @Override
+        @SuppressWarnings("com.haulmont.jpb.EqualsDoesntCheckParameterClass")
+        public boolean equals( Object o ) {
+            return FAS.equalInstancesWithEqualTypes( this, o );
+        }
+
+        @Override
+        public int hashCode() {
+            return FAS.hashCodeFrom( this );
+        }
+    }
+}
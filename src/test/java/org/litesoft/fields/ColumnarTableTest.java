@@ -0,0 +1,54 @@
+package org.litesoft.fields;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarTableTest {
+    private static final int ROWS = 100;
+
+    @Test
+    void test_load_and_materialize() {
+        List<CodecsTest.Sample> samples = samples();
+        ColumnarTable<CodecsTest.Sample> table = ColumnarTable.of( CodecsTest.Sample.FAS, 4 );
+        assertEquals( 0, table.add( samples.get( 0 ) ) );
+        table.addAll( samples.subList( 1, ROWS ) );
+        assertEquals( ROWS, table.size() );
+
+        assertEquals( samples, table.materializeAll( CodecsTest.Sample::new ) );
+        assertEquals( samples.get( 7 ), table.materialize( 7, new CodecsTest.Sample() ) );
+        assertEquals( "name7", table.getValue( 7, "name" ) );
+        assertEquals( "name7#7", table.getValue( 7, "summary" ) ); // read only, but loaded
+        assertEquals( 7, table.getInt( 7, 0 ) );
+        assertTrue( table.isNull( 3, 1 ) );
+        assertNull( table.getValue( 3, "count" ) );
+        assertFalse( table.isNull( 4, 1 ) );
+
+        assertThrows( IndexOutOfBoundsException.class, () -> table.getValue( ROWS, "name" ) );
+        assertThrows( Error.class, () -> table.longColumn( "name" ) );
+    }
+
+    @Test
+    void test_column_scans() {
+        ColumnarTable<CodecsTest.Sample> table = ColumnarTable.of( CodecsTest.Sample.FAS ).addAll( samples() );
+
+        assertEquals( (ROWS - 1) * ROWS / 2, table.intColumn( "id" ).sum() );
+        assertEquals( 75, table.longColumn( "count" ).count() ); // every 4th is null
+        assertEquals( ROWS * 0.5, table.doubleColumn( "ratio" ).sum() );
+        assertEquals( 50, table.intColumn( "score" ).count() ); // every other one is null
+        assertArrayEquals( new int[]{90, 92, 94, 96, 98}, table.rowsWhereInt( "score", score -> score >= 90 ).toArray() );
+        assertEquals( 34, table.<Boolean>column( "active" ).filter( Boolean::booleanValue ).count() );
+    }
+
+    private static List<CodecsTest.Sample> samples() {
+        List<CodecsTest.Sample> samples = new ArrayList<>();
+        for ( int i = 0; i < ROWS; i++ ) {
+            samples.add( new CodecsTest.Sample( i, (i % 4 == 3) ? null : (long)i * i, 0.5, i % 3 == 0, "name" + i, null,
+                                                (i % 2 == 0) ? i : null ) );
+        }
+        return samples;
+    }
+}
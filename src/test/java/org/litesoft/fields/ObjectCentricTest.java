@@ -1,11 +1,28 @@
 package org.litesoft.fields;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiPredicate;
+import java.util.stream.Stream;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 import org.litesoft.annotations.Significant;
 import org.litesoft.exceptions.ExceededMaxLengthException;
+import org.litesoft.utils.Cast;
 import org.litesoft.utils.TemplatedMessageException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -87,8 +104,126 @@ class ObjectCentricTest {
         expectedError( expectErrors( 1 ), ChildISO.TOO_YOUNG_VALIDATOR_NAME, ChildISO.TOO_YOUNG_MSG, String::equals );
     }
 
+    @Test
+    void test_validation_modes() {
+        FieldAccessors<ChildISO> fas = ChildISO.ISO_FAS;
+        assertTrue( fas.isValid( childISO ) );
+        assertEquals( "Pebbles @ 1 year old", childISO.getDescription() ); // ValueGenerators run when valid
+        assertFalse( fas.isValid( null ) );
+        assertNull( fas.validate( null, 1 ) );
+
+        childISO.setName( "  " );
+        childISO.setAge( -1 );
+        assertEquals( 2, fas.validate( childISO ).size() );
+        assertEquals( 2, fas.validate( childISO, 5 ).size() );
+        expectedError( fas.validate( childISO, 1 ), "name", RequiredFieldInsignificantException.MSG, String::equals );
+        List<FieldError> errors = fas.validateFailFast( childISO );
+        assertEquals( 1, errors.size() );
+        expectedError( errors, "name", RequiredFieldInsignificantException.MSG, String::equals );
+        assertFalse( fas.isValid( childISO ) );
+
+        Error error = assertThrows( Error.class, () -> fas.validate( childISO, 0 ) );
+        assertEquals( FieldAccessors.ERROR_INVALID_MAX_ERRORS_PREFIX + 0, error.getMessage() );
+    }
+
+    @Test
+    void test_reporting_validator() {
+        Validator<ChildISO> noParent1 = Validator.reporting( "noParent1", ( child, sink ) -> {
+            if ( child.getParent1() != null ) {
+                return true;
+            }
+            sink.add( "parent1", "missing parent for: .|0|.", child.getName() );
+            return false;
+        } );
+        List<FieldError> errors = new ArrayList<>();
+        FieldErrorSink sink = ( fieldName, templatedMessage ) -> errors.add( new FieldError( fieldName, templatedMessage ) );
+        assertTrue( noParent1.validate( childISO, sink ) );
+        noParent1.validate( childISO ); // no throw
+
+        ChildISO orphan = new ChildISO( "Bamm-Bamm", 1, null, null, null );
+        assertFalse( noParent1.validate( orphan, sink ) );
+        assertEquals( "missing parent for: Bamm-Bamm", errors.get( 0 ).errorMsg() );
+        TemplatedMessageException e = assertThrows( TemplatedMessageException.class, () -> noParent1.validate( orphan ) );
+        assertEquals( "missing parent for: Bamm-Bamm", e.getTemplatedMessage().toString() );
+
+
+        errors.clear();
+        Accessor<ChildISO, String> name = Accessor.of( AccessorType.required, "name", ChildISO::getName );
+        name.withReportingType( String.class, ( fieldName, value, fieldSink ) -> {
+            if ( !value.startsWith( "-" ) ) {
+                return true;
+            }
+            fieldSink.add( fieldName, "dashed: .|0|.", value );
+            return false;
+        } ).addMaxLength( 8 );
+        assertTrue( name.validate( childISO, sink ) );
+        assertFalse( name.validate( orphan, sink ) ); // built-in checks report directly (the same message as the exceptions)
+        assertFalse( name.validate( new ChildISO( null, 1, null, null, null ), sink ) );
+        assertFalse( name.validate( new ChildISO( "-x", 1, null, null, null ), sink ) );
+        assertEquals( List.of( "name", "name", "name" ), errors.stream().map( FieldError::getFieldName ).toList() );
+        assertEquals( List.of( new ExceededMaxLengthException( 8, 9 ).getTemplatedMessage().toString(), RequiredFieldInsignificantException.MSG, "dashed: -x" ),
+                      errors.stream().map( FieldError::errorMsg ).toList() );
+        assertThrows( ExceededMaxLengthException.class, () -> name.validate( orphan ) );
+        e = assertThrows( TemplatedMessageException.class, () -> name.validate( new ChildISO( "-x", 1, null, null, null ) ) );
+        assertEquals( "dashed: -x", e.getTemplatedMessage().toString() );
+
+        errors.clear(); // an overridden validate( instance ) is still honored by the sink form
+        Accessor<ChildISO, String> custom = new Accessor<>( AccessorType.optional, "custom", ChildISO::getName ) {
+            @Override
+            public void validate( ChildISO instance ) {
+                throw new IllegalStateException( "custom check" );
+            }
+        };
+        assertFalse( custom.validate( childISO, sink ) );
+        FieldAccessors<ChildISO> fas = FieldAccessors.of( ChildISO.class )
+                .optional( "name", ChildISO::getName ).withReportingType( String.class, ( fieldName, value, fieldSink ) -> {
+                    throw new IllegalStateException( "reporter bug" );
+                } )
+                .addValidator( new Validator<>( "overridden", child -> {
+                } ) {
+                    @Override
+                    public void validate( ChildISO child ) {
+                        throw new IllegalStateException( "overridden check" );
+                    }
+                } )
+                .addReportingValidator( "buggy", ( child, validatorSink ) -> {
+                    throw new IllegalStateException( "validator bug" );
+                } )
+                .done();
+        errors.addAll( fas.validate( childISO ) ); // throwing Reporters become FieldErrors (as do throwing Consumers)
+        assertEquals( List.of( "custom", "name", "overridden", "buggy" ), errors.stream().map( FieldError::getFieldName ).toList() );
+        assertEquals( List.of( "custom check", "reporter bug", "overridden check", "validator bug" ), errors.stream().map( FieldError::errorMsg ).toList() );
+    }
+
+    @Test
+    void test_validateAll() {
+        List<ChildISO> isos = new ArrayList<>();
+        for ( int i = 0; i < 5000; i++ ) {
+            isos.add( new ChildISO( "Child" + i, (i % 1000 == 7) ? -1 : 2, null, null, null ) );
+        }
+        isos.set( 3, null ); // skipped
+        List<Long> expectedIndexes = List.of( 7L, 1007L, 2007L, 3007L, 4007L );
+
+        assertIndexes( expectedIndexes, ChildISO.ISO_FAS.validateAll( isos ) );
+        assertIndexes( expectedIndexes, ChildISO.ISO_FAS.validateAllParallel( isos ) );
+        assertIndexes( expectedIndexes, ChildISO.ISO_FAS.validateAll( isos.stream().parallel() ) );
+        ExecutorService executor = Executors.newFixedThreadPool( 3 );
+        try {
+            assertIndexes( expectedIndexes, ChildISO.ISO_FAS.validateAll( isos, executor ) );
+        }
+        finally {
+            executor.shutdown();
+        }
+        assertEquals( "Child4999 @ 2 years old", isos.get( 4999 ).getDescription() );
+    }
+
+    private static void assertIndexes( List<Long> expectedIndexes, List<IndexedErrors> results ) {
+        assertEquals( expectedIndexes, results.stream().map( IndexedErrors::index ).toList() );
+        results.forEach( r -> expectedError( r.errors(), "age", ChildISO.AGE_NEGATIVE_PREFIX, String::startsWith ) );
+    }
+
     @SuppressWarnings("UnusedReturnValue")
-    private List<FieldError> expectedError( List<FieldError> errors, String expectedFieldName, String expectedMsgPortion, BiPredicate<String, String> tester ) {
+    private static List<FieldError> expectedError( List<FieldError> errors, String expectedFieldName, String expectedMsgPortion, BiPredicate<String, String> tester ) {
         FieldError error = errors.get( 0 );
         assertEquals( expectedFieldName, error.getFieldName() );
         assertTrue( tester.test( error.getFmtString(), expectedMsgPortion ), expectedFieldName );
@@ -130,6 +265,284 @@ class ObjectCentricTest {
         assertNotEquals( childDTO.hashCode(), c2.hashCode() );
     }
 
+    @Test
+    void test_ordinals_ChildISO() {
+        FieldAccessors<ChildISO> fas = ChildISO.ISO_FAS;
+        assertTrue( fas.isDone() );
+        assertEquals( 6, fas.getFieldCount() );
+        assertEquals( 0, fas.getOrdinal( "name" ) );
+        assertEquals( 5, fas.getOrdinal( "description" ) );
+        assertEquals( -1, fas.getOrdinal( "notAField" ) );
+        assertEquals( -1, fas.getOrdinal( null ) );
+
+        int ageOrdinal = fas.getOrdinal( "age" );
+        assertEquals( "age", fas.getAccessor( ageOrdinal ).getName() );
+        assertSame( fas.getAccessor( "age" ), fas.getAccessor( ageOrdinal ) );
+        int age = fas.getValue( childISO, ageOrdinal );
+        assertEquals( 1, age );
+        fas.setValue( childISO, ageOrdinal, age + 1 );
+        assertEquals( 2, childISO.getAge() );
+
+        int parent1Ordinal = fas.getOrdinal( "parent1" );
+        Error error = assertThrows( Error.class, () -> fas.setValue( childISO, parent1Ordinal, null ) );
+        assertEquals( FieldAccessors.ERROR_ACCESSOR_NOT_MUTABLE_PREFIX + "parent1", error.getMessage() );
+        error = assertThrows( Error.class, () -> fas.getValue( childISO, 6 ) );
+        assertEquals( FieldAccessors.ERROR_ORDINAL_OUT_OF_RANGE_PREFIX + 6, error.getMessage() );
+    }
+
+    @Test
+    void test_Equivalance_bind() {
+        Equivalance.Equivalence<ChildDTO> absolute = Equivalance.bind( ChildDTO.DTO_FAS );
+        Equivalance.Equivalence<ChildDTO> ignoreName = Equivalance.bind( ChildDTO.DTO_FAS, 1 );
+        ChildDTO c2 = new ChildDTO( childDTO );
+
+        assertTrue( absolute.equal( childDTO, c2 ) );
+        assertEquals( absolute.hash( childDTO ), absolute.hash( c2 ) );
+        assertEquals( Equivalance.absoluteHash( childDTO, ChildDTO.DTO_FAS ), absolute.hash( c2 ) );
+        assertFalse( absolute.equal( childDTO, subChildDTO ) ); // different types
+
+        c2.setName( "Bamm-Bamm" );
+        assertFalse( absolute.equal( childDTO, c2 ) );
+        assertTrue( ignoreName.equal( childDTO, c2 ) );
+        assertEquals( ignoreName.hash( childDTO ), ignoreName.hash( c2 ) );
+        assertEquals( Equivalance.mostlyHash( c2, ChildDTO.DTO_FAS, 1 ), ignoreName.hash( c2 ) );
+        assertTrue( Equivalance.mostly( childDTO, c2, ChildDTO.DTO_FAS, 1 ) );
+    }
+
+    @Test
+    void test_populateUsChanged_and_populateAll() {
+        ChildDTO copy = new ChildDTO( childDTO );
+        copy.setName( "Bamm-Bamm" );
+        copy.setParent2name( null );
+        assertEquals( 2, ChildDTO.DTO_FAS.populateUsChanged( copy, childDTO ) );
+        assertEquals( childDTO, copy );
+        assertEquals( 0, ChildDTO.DTO_FAS.populateUsChanged( copy, childDTO ) );
+
+        ChildDTO[] from = {childDTO, null, new ChildDTO( new ChildISO( "Dino", 3, null, null, null ) )};
+        ChildDTO[] us = {new ChildDTO(), new ChildDTO(), new ChildDTO()};
+        ChildDTO.DTO_FAS.populateAll( us, from );
+        assertEquals( childDTO, us[0] );
+        assertNull( us[1].getName() ); // null from -> left as is
+        assertEquals( from[2], us[2] );
+
+        assertThrows( Error.class, () -> ChildDTO.DTO_FAS.populateAll( us, new ChildDTO[1] ) );
+    }
+
+    @Test
+    void test_schemaFingerprint_and_cached_descriptions() {
+        long fingerprint = ChildDTO.DTO_FAS.getSchemaFingerprint();
+        assertEquals( fingerprint, ChildDTO.DTO_FAS.getSchemaFingerprint() );
+        assertEquals( fingerprint, openDtoFAS().done().getSchemaFingerprint() ); // same schema
+        assertNotEquals( fingerprint, openDtoFAS().addMetaData( "key" ).done().getSchemaFingerprint() );
+        assertNotEquals( fingerprint, ChildISO.ISO_FAS.getSchemaFingerprint() );
+
+        FieldAccessors<ChildDTO> open = openDtoFAS();
+        String before = open.toString();
+        open.withMetaData( "last" );
+        assertNotEquals( before, open.toString() ); // not cached before done
+        assertThrows( Error.class, open::getSchemaFingerprint );
+
+        assertSame( ChildDTO.DTO_FAS.toString(), ChildDTO.DTO_FAS.toString() ); // cached once done
+        Accessor<ChildDTO, ?> name = ChildDTO.DTO_FAS.getAccessor( "name" );
+        assertSame( name.description(), name.description() );
+
+        Error error = assertThrows( Error.class, () -> name.addMetaData( "key" ) ); // done -> schema frozen (so the cached forms stay true)
+        assertEquals( Accessor.ERROR_FROZEN_PREFIX + "name", error.getMessage() );
+        assertThrows( Error.class, () -> name.withMetaData( "" ) );
+        assertThrows( Error.class, () -> name.addMaxLength( 5 ) );
+        MutableAccessor<ChildDTO, String> mutable = Cast.it( name );
+        assertThrows( Error.class, () -> mutable.withType( String.class, String::trim ) );
+        assertEquals( fingerprint, ChildDTO.DTO_FAS.getSchemaFingerprint() );
+    }
+
+    @Test
+    void test_done_rejects_additions() {
+        FieldAccessors<ChildDTO> fas = openDtoFAS().done();
+        Error error = assertThrows( Error.class, () -> fas.optional( "late", ChildDTO::getName ) );
+        assertEquals( FieldAccessors.ERROR_ALREADY_DONE, error.getMessage() );
+        error = assertThrows( Error.class, () -> fas.addValidator( "late", child -> {
+        } ) );
+        assertEquals( FieldAccessors.ERROR_ALREADY_DONE, error.getMessage() );
+        error = assertThrows( Error.class, () -> fas.addValueGenerator( "late", child -> {
+        } ) );
+        assertEquals( FieldAccessors.ERROR_ALREADY_DONE, error.getMessage() );
+        assertEquals( 4, fas.getFieldCount() );
+        assertNull( fas.getAccessor( "late" ) );
+    }
+
+    private static FieldAccessors<ChildDTO> openDtoFAS() { // same schema as ChildDTO.DTO_FAS
+        return FieldAccessors.of( ChildDTO.class )
+                .optional( "name", ChildDTO::getName, ChildDTO::setName ).withType( String.class )
+                .optional( "age", ChildDTO::getAge, ChildDTO::setAge ).withType( Integer.class )
+                .optional( "parent1name", ChildDTO::getParent1name, ChildDTO::setParent1name ).withType( String.class )
+                .optional( "parent2name", ChildDTO::getParent2name, ChildDTO::setParent2name ).withType( String.class );
+    }
+
+    @Test
+    void test_mapper_batches() {
+        ChildISO bammBamm = new ChildISO( "Bamm-Bamm", 2, null, new Parent( "Betty" ), null );
+        List<ChildDTO> dtos = ChildDTO.FROM_CHILD_ISO_MAPPER.mapAll( List.of( childISO, bammBamm ), ChildDTO::new );
+        assertEquals( List.of( childDTO, new ChildDTO( bammBamm ) ), dtos );
+        assertNull( dtos.get( 1 ).getParent2name() );
+
+        List<ChildDTO> targets = List.of( new ChildDTO(), new ChildDTO() );
+        ChildDTO.FROM_CHILD_ISO_MAPPER.mapInto( List.of( bammBamm, childISO ), targets );
+        assertEquals( List.of( new ChildDTO( bammBamm ), childDTO ), targets );
+
+        assertThrows( IllegalStateException.class, () -> ChildDTO.FROM_CHILD_ISO_MAPPER.mapInto( List.of( childISO ), targets ) );
+        assertTrue( ChildDTO.FROM_CHILD_ISO_MAPPER.isCompiled() );
+        assertThrows( Error.class, () -> ChildDTO.FROM_CHILD_ISO_MAPPER.add( "name", ChildDTO.DTO_FAS, ChildISO.ISO_FAS ) );
+    }
+
+    @Test
+    void test_metrics() {
+        FieldAccessors<ChildISO> fas = ChildISO.ISO_FAS;
+        FieldMappers<ChildDTO, ChildISO> mapper = ChildDTO.FROM_CHILD_ISO_MAPPER;
+        FieldMetricsRecorder recorder = new FieldMetricsRecorder();
+        fas.setMetrics( recorder );
+        mapper.setMetrics( recorder );
+        try {
+            assertTrue( fas.isValid( childISO ) );
+            childISO.setAge( -1 );
+            assertEquals( 1, fas.validate( childISO ).size() );
+            mapper.map( new ChildDTO(), childISO );
+        }
+        finally {
+            fas.setMetrics( null );
+            mapper.setMetrics( null );
+        }
+        assertTrue( fas.isValid( new ChildISO( "Dino", 3, null, null, null ) ) ); // not recorded
+
+        FieldMetricsRecorder.Stats age = recorder.get( ChildISO.class, FieldMetrics.Step.ACCESSOR, "age" );
+        assertEquals( 2, age.getCount() );
+        assertEquals( 1, age.getFailures() );
+        assertEquals( 2, Arrays.stream( age.getHistogram() ).sum() );
+        assertTrue( age.getPercentileNanos( 0.99 ) > 0 );
+        assertEquals( 2, recorder.get( ChildISO.class, FieldMetrics.Step.VALIDATOR, ChildISO.TOO_YOUNG_VALIDATOR_NAME ).getCount() );
+        assertEquals( 1, recorder.get( ChildISO.class, FieldMetrics.Step.VALUE_GENERATOR, "aug:description" ).getCount() ); // only when valid
+        assertEquals( 1, recorder.get( ChildDTO.class, FieldMetrics.Step.MAPPER, "name" ).getCount() );
+        assertEquals( 0, recorder.get( ChildDTO.class, FieldMetrics.Step.MAPPER, "name" ).getFailures() );
+        assertNull( recorder.get( ChildISO.class, FieldMetrics.Step.MAPPER, "name" ) );
+    }
+
+    @Test
+    void test_jfr_events()
+            throws Exception {
+        Path file = Files.createTempFile( "fields", ".jfr" );
+        try ( Recording recording = new Recording() ) {
+            recording.enable( ValidationEvent.NAME ).withThreshold( Duration.ZERO );
+            recording.enable( MappingEvent.NAME ).withThreshold( Duration.ZERO );
+            recording.start();
+            assertTrue( ValidationEvent.enabled() );
+            assertTrue( MappingEvent.enabled() );
+            childISO.setAge( -1 );
+            assertEquals( 1, ChildISO.ISO_FAS.validate( childISO ).size() );
+            ChildDTO.FROM_CHILD_ISO_MAPPER.map( new ChildDTO(), childISO );
+            recording.stop();
+            recording.dump( file );
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents( file );
+            RecordedEvent validation = events.stream().filter( e -> e.getEventType().getName().equals( ValidationEvent.NAME ) ).findFirst().orElseThrow();
+            assertEquals( ChildISO.class.getName(), validation.getString( "typeName" ) );
+            assertEquals( 6, validation.getInt( "fieldCount" ) );
+            assertEquals( 1, validation.getInt( "errorCount" ) );
+            RecordedEvent mapping = events.stream().filter( e -> e.getEventType().getName().equals( MappingEvent.NAME ) ).findFirst().orElseThrow();
+            assertEquals( ChildDTO.class.getName(), mapping.getString( "typeName" ) );
+            assertEquals( ChildISO.class.getName(), mapping.getString( "sourceTypeName" ) );
+            assertEquals( 0, mapping.getInt( "errorCount" ) );
+        }
+        finally {
+            Files.deleteIfExists( file );
+        }
+    }
+
+    @Test
+    void test_diff_and_apply()
+            throws Exception {
+        assertSame( FieldPatch.EMPTY, ChildDTO.DTO_FAS.diff( childDTO, new ChildDTO( childISO ) ) );
+
+        ChildDTO changed = new ChildDTO( childISO );
+        changed.setAge( 2 );
+        changed.setParent2name( null );
+        FieldPatch patch = ChildDTO.DTO_FAS.diff( childDTO, changed );
+        assertEquals( List.of( "age", "parent2name" ), patch.getFieldNames() );
+        assertEquals( "FieldPatch[age=2, parent2name=null]", patch.toString() );
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+            out.writeObject( patch );
+            out.writeObject( FieldPatch.EMPTY );
+        }
+        try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) ) {
+            FieldPatch shipped = (FieldPatch)in.readObject();
+            assertEquals( patch, shipped );
+            assertSame( FieldPatch.EMPTY, in.readObject() );
+
+            ChildDTO target = new ChildDTO( childISO );
+            ChildDTO.DTO_FAS.apply( target, shipped );
+            assertEquals( changed, target );
+        }
+
+        assertEquals( FieldPatch.ERROR_NULL_ARRAY, rejected( new FieldPatch.Proxy( null, new Object[0] ) ) );
+        assertEquals( FieldPatch.ERROR_NULL_ARRAY, rejected( new FieldPatch.Proxy( new String[0], null ) ) );
+        assertEquals( FieldPatch.ERROR_LENGTH_MISMATCH, rejected( new FieldPatch.Proxy( new String[]{"age"}, new Object[0] ) ) );
+        assertEquals( FieldPatch.ERROR_NULL_FIELD_NAME + 1, rejected( new FieldPatch.Proxy( new String[]{"age", null}, new Object[]{2, 3} ) ) );
+    }
+
+    private static String rejected( FieldPatch.Proxy malformed )
+            throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+            out.writeObject( malformed );
+        }
+        try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) ) {
+            return assertThrows( InvalidObjectException.class, in::readObject ).getMessage();
+        }
+    }
+
+    @Test
+    void test_mapper_stream() {
+        FieldMappers<ChildDTO, ChildISO> mapper = FieldMappers.of( ChildDTO.class, ChildISO.class )
+                .add( "name", ChildDTO.DTO_FAS, ChildISO.ISO_FAS )
+                .add( "age", ChildDTO::setAge, source -> {
+                    if ( source.getAge() % 1000 == 999 ) {
+                        throw new IllegalArgumentException( "Bad Age" );
+                    }
+                    return source.getAge();
+                } )
+                .compile();
+        List<ChildISO> sources = new ArrayList<>();
+        for ( int i = 0; i < 5000; i++ ) {
+            sources.add( new ChildISO( "C" + i, i, null, new Parent( "P" ), null ) );
+        }
+        for ( boolean parallel : new boolean[]{false, true} ) {
+            List<MappedRow<ChildDTO>> rows = mapper.stream( sources.iterator(), ChildDTO::new, parallel ).toList();
+            assertEquals( sources.size(), rows.size() );
+            for ( int i = 0; i < rows.size(); i++ ) {
+                MappedRow<ChildDTO> row = rows.get( i );
+                assertEquals( i, row.index() );
+                assertEquals( "C" + i, row.target().getName() );
+            }
+            assertEquals( List.of( 999L, 1999L, 2999L, 3999L, 4999L ), rows.stream().filter( MappedRow::hasErrors ).map( MappedRow::index ).toList() );
+            assertEquals( "Bad Age", rows.get( 999 ).fieldErrors().get( "age" ).getFmtString() );
+        }
+        List<MappedRow<ChildDTO>> smallBatches = mapper.stream( sources.iterator(), ChildDTO::new, true, 7 ).toList();
+        assertEquals( sources.size(), smallBatches.size() );
+        for ( int i = 0; i < smallBatches.size(); i++ ) {
+            assertEquals( i, smallBatches.get( i ).index() );
+            assertEquals( "C" + i, smallBatches.get( i ).target().getName() );
+        }
+        Error error = assertThrows( Error.class, () -> mapper.stream( sources.iterator(), ChildDTO::new, true, 0 ) );
+        assertEquals( FieldMappers.ERROR_INVALID_MAX_BATCH_PREFIX + 0, error.getMessage() );
+
+        boolean[] closed = {false};
+        try ( Stream<MappedRow<ChildDTO>> rows = mapper.stream( sources.parallelStream().onClose( () -> closed[0] = true ), ChildDTO::new ) ) {
+            assertTrue( rows.isParallel() );
+            assertEquals( 5, rows.filter( MappedRow::hasErrors ).count() );
+        }
+        assertTrue( closed[0] );
+    }
+
     @Test
     @SuppressWarnings("SimplifiableAssertion")
     void test_methods_ChildDTO_SubChildDTO_equals() {
@@ -264,7 +677,8 @@ class ObjectCentricTest {
                 .add( "name", DTO_FAS, ChildISO.ISO_FAS )
                 .add( "age", DTO_FAS, ChildISO.ISO_FAS )
                 .add( "parent1name", DTO_FAS, "parent1", ChildISO.ISO_FAS, ChildDTO::extractParentName )
-                .add( "parent2name", DTO_FAS, "parent2", ChildISO.ISO_FAS, ChildDTO::extractParentName );
+                .add( "parent2name", DTO_FAS, "parent2", ChildISO.ISO_FAS, ChildDTO::extractParentName )
+                .compile();
 
         private static String extractParentName( Parent parent ) {
             return (parent == null) ? null : parent.name();
@@ -0,0 +1,181 @@
+package org.litesoft.fields;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveAccessorsTest {
+
+    Reading reading = new Reading( 7, 1234567890123L, 98.6, true );
+
+    @Test
+    void test_toString_and_description() {
+        assertEquals( String.join( "\n"
+                , "sensor: 7"
+                , "at: 1234567890123"
+                , "value: 98.6"
+                , "ok: true" // No Newline
+        ), reading.toString() );
+
+        assertEquals( String.join( "\n",
+                                   "" +
+                                   "sensor int     (required)",
+                                   "at     long",
+                                   "value  double",
+                                   "ok     boolean",
+                                   "" // Newline!
+        ), Reading.FAS.toString() );
+        assertEquals( "sensor int (required)", Reading.FAS.getAccessor( "sensor" ).description() );
+    }
+
+    @Test
+    void test_hash_equals_populate() {
+        Reading copy = new Reading();
+        Reading.FAS.populateUs( copy, reading );
+        assertEquals( reading, copy );
+        assertEquals( Objects.hash( 7, 1234567890123L, 98.6, true ), copy.hashCode() );
+
+        copy.setValue( Double.NaN );
+        reading.setValue( Double.NaN );
+        assertEquals( reading, copy ); // Double.equals semantics
+        copy.setOk( false );
+        assertNotEquals( reading, copy );
+    }
+
+    @Test
+    void test_getValue_setValue_and_validate() {
+        int sensor = Reading.FAS.getValue( reading, "sensor" );
+        assertEquals( 7, sensor );
+        Reading.FAS.setValue( reading, "at", 42L );
+        assertEquals( 42L, reading.getAt() );
+        IntAccessor<Reading> sensorAccessor = (IntAccessor<Reading>)Reading.FAS.<Integer>getAccessor( "sensor" );
+        sensorAccessor.setInt( reading, 8 );
+        assertEquals( 8, sensorAccessor.getInt( reading ) );
+
+        assertEquals( 0, Reading.FAS.validate( reading ).size() );
+        reading.setSensor( -1 );
+        List<FieldError> errors = Reading.FAS.validate( reading );
+        assertEquals( 1, errors.size() );
+        assertEquals( "sensor", errors.get( 0 ).getFieldName() );
+    }
+
+    @Test
+    void test_read_only() {
+        FieldAccessors<Reading> fas = FieldAccessors.of( Reading.class )
+                .requiredInt( "sensor", Reading::getSensor )
+                .optionalLong( "at", Reading::getAt )
+                .optionalDouble( "value", Reading::getValue )
+                .optionalBoolean( "ok", Reading::isOk )
+                .done();
+        assertEquals( Reading.FAS.toString(), fas.toString() );
+        for ( Accessor<Reading, ?> accessor : fas.accessors() ) {
+            assertFalse( accessor.isMutable(), accessor.getName() );
+            assertNull( fas.getMutableAccessor( accessor.getName() ), accessor.getName() );
+        }
+        assertEquals( Reading.FAS.hashCodeFrom( reading ), fas.hashCodeFrom( reading ) ); // unboxed reads
+        assertTrue( fas.isValid( reading ) );
+
+        Error error = assertThrows( Error.class, () -> fas.setValue( reading, "at", 5L ) );
+        assertEquals( FieldAccessors.ERROR_ACCESSOR_NOT_MUTABLE_PREFIX + "at", error.getMessage() );
+        IntAccessor<Reading> sensor = (IntAccessor<Reading>)fas.<Integer>getAccessor( "sensor" );
+        assertEquals( 7, sensor.getInt( reading ) );
+        error = assertThrows( Error.class, () -> sensor.setInt( reading, 8 ) );
+        assertEquals( PrimitiveAccessor.ERROR_READ_ONLY_PREFIX + "sensor", error.getMessage() );
+        assertThrows( Error.class, () -> sensor.setValue( reading, 8 ) );
+        assertEquals( 7, reading.getSensor() );
+    }
+
+    @Test
+    void test_mapping() {
+        Reading target = new Reading();
+        Reading.COPY_MAPPER.map( target, reading );
+        assertEquals( reading, target );
+    }
+
+    private static final class Reading {
+        static final FieldAccessors<Reading> FAS = FieldAccessors.of( Reading.class )
+                .requiredInt( "sensor", Reading::getSensor, Reading::setSensor ).withType( int.class, Reading::checkSensor )
+                .optionalLong( "at", Reading::getAt, Reading::setAt )
+                .optionalDouble( "value", Reading::getValue, Reading::setValue )
+                .optionalBoolean( "ok", Reading::isOk, Reading::setOk )
+                .done();
+
+        static final FieldMappers<Reading, Reading> COPY_MAPPER = FieldMappers.of( Reading.class, Reading.class )
+                .add( "sensor", FAS, FAS )
+                .add( "at", FAS, FAS )
+                .add( "value", FAS, FAS )
+                .add( "ok", FAS, FAS );
+
+        private int sensor;
+        private long at;
+        private double value;
+        private boolean ok;
+
+        private Reading() {
+        }
+
+        private Reading( int sensor, long at, double value, boolean ok ) {
+            this.sensor = sensor;
+            this.at = at;
+            this.value = value;
+            this.ok = ok;
+        }
+
+        public int getSensor() {
+            return sensor;
+        }
+
+        public void setSensor( int sensor ) {
+            this.sensor = sensor;
+        }
+
+        public long getAt() {
+            return at;
+        }
+
+        public void setAt( long at ) {
+            this.at = at;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        public void setValue( double value ) {
+            this.value = value;
+        }
+
+        public boolean isOk() {
+            return ok;
+        }
+
+        public void setOk( boolean ok ) {
+            this.ok = ok;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder().addAll( this, FAS ).toString();
+        }
+
+        @Override
+        @SuppressWarnings("com.haulmont.jpb.EqualsDoesntCheckParameterClass")
+        public boolean equals( Object o ) {
+            return FAS.equalInstancesWithEqualTypes( this, o );
+        }
+
+        @Override
+        public int hashCode() {
+            return FAS.hashCodeFrom( this );
+        }
+
+        private static void checkSensor( Integer sensor ) {
+            if ( sensor < 0 ) {
+                throw new IllegalArgumentException( "sensor may not be negative" );
+            }
+        }
+    }
+}
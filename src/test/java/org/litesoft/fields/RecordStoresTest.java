@@ -0,0 +1,226 @@
+package org.litesoft.fields;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.litesoft.exceptions.ExceededMaxLengthException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordStoresTest {
+
+    private static final int QUOTE_RECORD_SIZE = 1 + 4 + (2 + 2 * 8) + 8 + 8 + 1; // null bitmap, id, symbol, price, volume, active
+
+    Quote acme = new Quote( 1, "ACME", 12.5, 1000L, true );
+    Quote unlisted = new Quote( 2, null, 0.0, null, false );
+
+    @Test
+    void test_offHeap() {
+        OffHeapRecordStore<Quote> store = OffHeapRecordStore.of( Quote.FAS, 1 );
+        assertEquals( QUOTE_RECORD_SIZE, store.getRecordSize() );
+        assertEquals( 0, store.add( acme ) );
+        assertEquals( 1, store.add( unlisted ) ); // grows
+        for ( int i = 2; i < 100; i++ ) {
+            store.add( new Quote( i, "Q" + i, i, (long)i, i % 2 == 0 ) );
+        }
+        assertEquals( 100, store.size() );
+        assertEquals( 100, store.capacity() ); // a record per segment
+        assertEquals( acme, store.read( 0, new Quote() ) );
+        assertEquals( unlisted, store.read( 1, new Quote() ) );
+        assertEquals( new Quote( 99, "Q99", 99, 99L, false ), store.read( 99, new Quote() ) );
+
+        RecordView<Quote> view = store.view( 0 );
+        int price = view.fieldIndex( "price" );
+        int symbol = view.fieldIndex( "symbol" );
+        int volume = view.fieldIndex( "volume" );
+        assertEquals( 12.5, view.getDouble( price ) );
+        assertEquals( "ACME", view.getString( symbol ) );
+        view.setDouble( price, 13.0 ).setValue( "volume", null );
+        assertTrue( view.isNull( volume ) );
+        assertEquals( new Quote( 1, "ACME", 13.0, null, true ), store.read( 0, new Quote() ) );
+
+        assertTrue( view.moveTo( 1 ).isNull( symbol ) );
+        assertNull( view.getValue( "symbol" ) );
+        view.setString( symbol, "NEW" ).setLong( volume, 5 );
+        assertEquals( new Quote( 2, "NEW", 0.0, 5L, false ), view.materialize( new Quote() ) );
+
+        store.update( 1, unlisted );
+        assertEquals( unlisted, store.read( 1, new Quote() ) );
+
+        assertThrows( ExceededMaxLengthException.class, () -> view.setString( symbol, "TOO-LONG-SYMBOL" ) );
+        assertThrows( IllegalArgumentException.class, () -> view.setValue( "id", null ) );
+        assertThrows( Error.class, () -> view.getInt( price ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> view.moveTo( 100 ) );
+        assertThrows( Error.class, () -> OffHeapRecordStore.of( CodecsTest.Sample.FAS ) ); // String w/o a max length
+        Error error = assertThrows( Error.class, () -> OffHeapRecordStore.of( ReadOnlyQuote.FAS ) ); // zero size record
+        assertEquals( "OffHeapRecordStore" + RecordLayout.ERROR_NO_MUTABLE_FIELDS_SUFFIX, error.getMessage() );
+        assertThrows( Error.class, () -> OffHeapRecordStore.of( ReadOnlyQuote.FAS, 1 ) );
+    }
+
+    @Test
+    void test_mappedFile()
+            throws IOException {
+        Path path = Files.createTempFile( "quotes", ".records" );
+        Files.delete( path ); // start w/ no file
+        try {
+            try ( MappedRecordFile<Quote> file = MappedRecordFile.open( Quote.FAS, path, 16 ) ) {
+                for ( int i = 0; i < 100; i++ ) {
+                    assertEquals( i, file.add( new Quote( i, "Q" + i, i, (i % 3 == 0) ? null : (long)i, i % 2 == 0 ) ) );
+                }
+                file.add( acme );
+                file.view( 7 ).setDouble( file.fieldIndex( "price" ), 77.5 );
+            }
+            assertEquals( MappedRecordFile.HEADER_SIZE + (7L * 16 * QUOTE_RECORD_SIZE), Files.size( path ) ); // 7 segments of 16 records
+
+            try ( MappedRecordFile<Quote> file = MappedRecordFile.open( Quote.FAS, path ) ) { // different segment size
+                assertEquals( 101, file.size() );
+                assertEquals( acme, file.read( 100, new Quote() ) );
+                assertEquals( new Quote( 7, "Q7", 77.5, 7L, false ), file.read( 7, new Quote() ) );
+                assertEquals( new Quote( 99, "Q99", 99, null, false ), file.read( 99, new Quote() ) );
+                file.update( 0, unlisted );
+                assertEquals( 101, file.add( acme ) );
+            }
+            try ( MappedRecordFile<Quote> file = MappedRecordFile.open( Quote.FAS, path ) ) {
+                assertEquals( 102, file.size() );
+                assertEquals( unlisted, file.view( 0 ).materialize( new Quote() ) );
+            }
+            assertThrows( IllegalStateException.class, () -> MappedRecordFile.open( OtherQuote.FAS, path ) );
+
+            try ( FileChannel channel = FileChannel.open( path, StandardOpenOption.WRITE ) ) {
+                channel.write( ByteBuffer.wrap( new byte[]{-1, -1} ), MappedRecordFile.HEADER_SIZE + (7L * QUOTE_RECORD_SIZE) + 1 + 4 ); // record 7's symbol length: -1
+            }
+            try ( MappedRecordFile<Quote> file = MappedRecordFile.open( Quote.FAS, path ) ) {
+                IllegalStateException e = assertThrows( IllegalStateException.class, () -> file.read( 7, new Quote() ) );
+                assertTrue( e.getMessage().startsWith( RecordLayout.ERROR_CORRUPT_PREFIX ) );
+            }
+            Files.delete( path );
+
+            Files.write( path, new byte[]{1, 2, 3} );
+            assertThrows( IllegalStateException.class, () -> MappedRecordFile.open( Quote.FAS, path ) );
+            assertEquals( 3, Files.size( path ) ); // not grown
+            Files.delete( path );
+
+            Error error = assertThrows( Error.class, () -> MappedRecordFile.open( ReadOnlyQuote.FAS, path ) ); // zero size record
+            assertEquals( "MappedRecordFile" + RecordLayout.ERROR_NO_MUTABLE_FIELDS_SUFFIX, error.getMessage() );
+            assertThrows( Error.class, () -> MappedRecordFile.open( ReadOnlyQuote.FAS, path, 16 ) );
+            assertFalse( Files.exists( path ) ); // not created
+        }
+        finally {
+            Files.deleteIfExists( path );
+        }
+    }
+
+    static final class ReadOnlyQuote {
+        static final FieldAccessors<ReadOnlyQuote> FAS = FieldAccessors.of( ReadOnlyQuote.class )
+                .requiredInt( "id", ReadOnlyQuote::getId )
+                .done();
+
+        public int getId() {
+            return 1;
+        }
+    }
+
+    static final class OtherQuote {
+        static final FieldAccessors<OtherQuote> FAS = FieldAccessors.of( OtherQuote.class )
+                .requiredInt( "id", OtherQuote::getId, OtherQuote::setId )
+                .done();
+
+        private int id;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId( int id ) {
+            this.id = id;
+        }
+    }
+
+    static final class Quote {
+        static final FieldAccessors<Quote> FAS = FieldAccessors.of( Quote.class )
+                .requiredInt( "id", Quote::getId, Quote::setId )
+                .optional( "symbol", Quote::getSymbol, Quote::setSymbol ).withType( String.class ).addMaxLength( 8 )
+                .requiredDouble( "price", Quote::getPrice, Quote::setPrice )
+                .optional( "volume", Quote::getVolume, Quote::setVolume ).withType( Long.class )
+                .optionalBoolean( "active", Quote::isActive, Quote::setActive )
+                .done();
+
+        private int id;
+        private String symbol;
+        private double price;
+        private Long volume;
+        private boolean active;
+
+        Quote() {
+        }
+
+        Quote( int id, String symbol, double price, Long volume, boolean active ) {
+            this.id = id;
+            this.symbol = symbol;
+            this.price = price;
+            this.volume = volume;
+            this.active = active;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId( int id ) {
+            this.id = id;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public void setSymbol( String symbol ) {
+            this.symbol = symbol;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice( double price ) {
+            this.price = price;
+        }
+
+        public Long getVolume() {
+            return volume;
+        }
+
+        public void setVolume( Long volume ) {
+            this.volume = volume;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive( boolean active ) {
+            this.active = active;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder().addAll( this, FAS ).toString();
+        }
+
+        @Override
+        @SuppressWarnings("com.haulmont.jpb.EqualsDoesntCheckParameterClass")
+        public boolean equals( Object o ) {
+            return FAS.equalInstancesWithEqualTypes( this, o );
+        }
+
+        @Override
+        public int hashCode() {
+            return FAS.hashCodeFrom( this );
+        }
+    }
+}
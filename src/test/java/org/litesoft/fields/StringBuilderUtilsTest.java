@@ -15,6 +15,7 @@ class StringBuilderUtilsTest {
         verify( "\"Fred\"", -1, "Fred" ); // String
         verify( "   '~'", 3, '~' ); // Character
         verify( " Xyzzy", 1, new StringBuilder().append( "Xyzzy" ) ); // non-String
+        verify( " ".repeat( 150 ) + "2", 150, 2 ); // multiple padding slices
     }
 
     void verify( String expected, int addIndentation, Object addQuotedTo ) {
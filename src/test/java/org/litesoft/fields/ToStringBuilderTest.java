@@ -0,0 +1,70 @@
+package org.litesoft.fields;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ToStringBuilderTest {
+    private static final String EXPECTED_FIELDS = String.join( "\n"
+            , "  name: \"Fred\""
+            , "  age: 42"
+            , "  initial: 'F'"
+            , "  spouse:"
+            , "    name: \"Wilma\"" // No Newline
+    );
+
+    @Test
+    void test_buffered() {
+        assertEquals( "Person:\n" + EXPECTED_FIELDS, addFields( new ToStringBuilder( " Person " ) ).toString() );
+        assertEquals( "Person:\n", new ToStringBuilder( "Person" ).toString() );
+        assertEquals( "name: 1", new ToStringBuilder( "Person" ).outdent().add( "name", 1 ).toString() );
+        assertEquals( ":\n  name: 1", new ToStringBuilder().indent().add( "name", 1 ).toString() );
+    }
+
+    @Test
+    void test_streaming() {
+        StringWriter writer = new StringWriter();
+        ToStringBuilder builder = addFields( new ToStringBuilder( "Person", writer ) );
+        assertTrue( builder.isStreaming() );
+        assertEquals( "", builder.toString() );
+        assertEquals( "Person:\n" + EXPECTED_FIELDS, writer.toString() );
+
+        StringBuilder sb = new StringBuilder( "Log: " );
+        addFields( builder.reset( sb ) );
+        assertEquals( "Log: Person:\n" + EXPECTED_FIELDS, sb.toString() );
+    }
+
+    @Test
+    void test_reset() {
+        ToStringBuilder builder = new ToStringBuilder( "Person" );
+        addFields( builder ).reset();
+        assertEquals( "Person:\n", builder.toString() );
+        assertEquals( "Person:\n" + EXPECTED_FIELDS, addFields( builder ).toString() );
+        assertFalse( builder.isStreaming() );
+    }
+
+    @Test
+    void test_pooled() {
+        ToStringBuilder outer = ToStringBuilder.acquire( "Person" );
+        ToStringBuilder nested = ToStringBuilder.acquire();
+        assertNotSame( outer, nested );
+        assertEquals( "name: 1", nested.add( "name", 1 ).release() );
+        assertEquals( "Person:\n" + EXPECTED_FIELDS, addFields( outer ).release() );
+        assertThrows( IllegalStateException.class, outer::release );
+
+        ToStringBuilder reacquired = ToStringBuilder.acquire();
+        assertSame( outer, reacquired ); // last released, first reacquired
+        assertEquals( "", reacquired.toString() );
+        assertSame( nested, ToStringBuilder.acquire() );
+        reacquired.release();
+    }
+
+    private static ToStringBuilder addFields( ToStringBuilder builder ) {
+        return builder.add( "name", "Fred" )
+                .add( "age", 42 )
+                .add( "initial", 'F' )
+                .add( "spouse", (Indentable)b -> b.add( "name", "Wilma" ) );
+    }
+}